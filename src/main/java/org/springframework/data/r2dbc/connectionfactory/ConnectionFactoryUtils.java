@@ -89,6 +89,13 @@ public abstract class ConnectionFactoryUtils {
 			ConnectionHolder conHolder = (ConnectionHolder) synchronizationManager.getResource(connectionFactory);
 			if (conHolder != null && (conHolder.hasConnection() || conHolder.isSynchronizedWithTransaction())) {
 				conHolder.requested();
+				if (!conHolder.hasConnection() && conHolder.hasConnectionInitializer()) {
+
+					if (logger.isDebugEnabled()) {
+						logger.debug("Fetching deferred transactional R2DBC Connection from ConnectionFactory");
+					}
+					return conHolder.initializeConnection();
+				}
 				if (!conHolder.hasConnection()) {
 
 					if (logger.isDebugEnabled()) {
@@ -255,6 +262,23 @@ public abstract class ConnectionFactoryUtils {
 				}).map(it -> connectionFactory);
 	}
 
+	/**
+	 * Determine whether an actual transaction is active in the current subscriber {@link reactor.util.context.Context}.
+	 * Values read within an active transaction may reflect uncommitted changes and should not be shared with callers
+	 * outside of the transaction, for example through caches.
+	 *
+	 * @return {@link Mono} emitting whether an actual transaction is active.
+	 * @since 1.2
+	 * @see TransactionSynchronizationManager#isActualTransactionActive()
+	 */
+	public static Mono<Boolean> isActualTransactionActive() {
+
+		return TransactionSynchronizationManager.forCurrentTransaction() //
+				.map(TransactionSynchronizationManager::isActualTransactionActive) //
+				.onErrorResume(NoTransactionException.class, e -> Mono.just(false)) //
+				.defaultIfEmpty(false);
+	}
+
 	/**
 	 * Determine whether the given two {@link io.r2dbc.spi.Connection}s are equal, asking the target
 	 * {@link io.r2dbc.spi.Connection} in case of a proxy. Used to detect equality even if the user passed in a raw target
@@ -17,6 +17,8 @@ package org.springframework.data.r2dbc.connectionfactory;
 
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.support.ResourceHolderSupport;
 import org.springframework.util.Assert;
@@ -42,6 +44,8 @@ public class ConnectionHolder extends ResourceHolderSupport {
 
 	private boolean transactionActive;
 
+	@Nullable private Mono<Connection> connectionInitializer;
+
 	/**
 	 * Create a new ConnectionHolder for the given R2DBC {@link Connection}, wrapping it with a
 	 * {@link SimpleConnectionHandle}, assuming that there is no ongoing transaction.
@@ -68,6 +72,19 @@ public class ConnectionHolder extends ResourceHolderSupport {
 		this.transactionActive = transactionActive;
 	}
 
+	/**
+	 * Create a new ConnectionHolder for a transaction whose {@link Connection} is obtained lazily through
+	 * {@code connectionInitializer} once the first {@link Connection} is requested within the transaction. The
+	 * initializer is expected to {@link #setConnection(Connection) set the connection} on this holder.
+	 *
+	 * @param connectionInitializer initializer obtaining the {@link Connection} and beginning the transaction.
+	 * @since 1.2
+	 */
+	ConnectionHolder(Mono<Connection> connectionInitializer) {
+		this.connectionInitializer = connectionInitializer.cache();
+		this.transactionActive = true;
+	}
+
 	/**
 	 * Return the ConnectionHandle held by this ConnectionHolder.
 	 */
@@ -83,6 +100,26 @@ public class ConnectionHolder extends ResourceHolderSupport {
 		return (this.connectionHandle != null);
 	}
 
+	/**
+	 * Return whether this holder defers obtaining its {@link Connection} until the connection is requested for the first
+	 * time.
+	 *
+	 * @since 1.2
+	 */
+	boolean hasConnectionInitializer() {
+		return (this.connectionInitializer != null);
+	}
+
+	/**
+	 * Obtain the lazily initialized {@link Connection}. Subsequent calls share the same initialization.
+	 *
+	 * @since 1.2
+	 */
+	Mono<Connection> initializeConnection() {
+		Assert.state(this.connectionInitializer != null, "No connection initializer available");
+		return this.connectionInitializer;
+	}
+
 	/**
 	 * Set whether this holder represents an active, R2DBC-managed transaction.
 	 *
@@ -164,5 +201,6 @@ public class ConnectionHolder extends ResourceHolderSupport {
 	public void clear() {
 		super.clear();
 		this.transactionActive = false;
+		this.connectionInitializer = null;
 	}
 }
@@ -27,6 +27,7 @@ import java.time.Duration;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
 import org.springframework.data.r2dbc.support.R2dbcExceptionSubclassTranslator;
 import org.springframework.data.r2dbc.support.R2dbcExceptionTranslator;
 import org.springframework.lang.Nullable;
@@ -80,6 +81,10 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 
 	private boolean enforceReadOnly = false;
 
+	private @Nullable R2dbcDialect dialect;
+
+	private boolean lazyTransactionBegin = false;
+
 	private R2dbcExceptionTranslator exceptionTranslator = new R2dbcExceptionSubclassTranslator();
 
 	/**
@@ -179,6 +184,57 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 		return this.enforceReadOnly;
 	}
 
+	/**
+	 * Set the {@link R2dbcDialect} used to apply transaction characteristics. If the dialect is able to
+	 * {@link R2dbcDialect#renderSetTransaction(IsolationLevel, boolean) render a statement} that applies the isolation
+	 * level and read-only characteristics to the current transaction, that single statement is issued right after
+	 * {@link Connection#beginTransaction()} instead of applying each characteristic to the connection. Isolation levels
+	 * applied this way are scoped to the transaction and therefore do not require a reset after completion.
+	 *
+	 * @param dialect the dialect, can be {@literal null} to apply characteristics to the connection.
+	 * @since 1.2
+	 */
+	public void setDialect(@Nullable R2dbcDialect dialect) {
+		this.dialect = dialect;
+	}
+
+	/**
+	 * Return the {@link R2dbcDialect} used to apply transaction characteristics.
+	 *
+	 * @return the {@link R2dbcDialect} used to apply transaction characteristics or {@literal null} if none configured.
+	 * @since 1.2
+	 */
+	@Nullable
+	public R2dbcDialect getDialect() {
+		return this.dialect;
+	}
+
+	/**
+	 * Specify whether to defer obtaining the {@link Connection} and beginning the transaction until the first
+	 * {@link Connection} is requested within the transaction through
+	 * {@link ConnectionFactoryUtils#getConnection(ConnectionFactory)}. Commit and rollback are no-ops for transactions
+	 * that never requested a {@link Connection}.
+	 * <p>
+	 * Deferring transaction begin avoids connection acquisition for transactional methods that do not access the
+	 * database. Errors while beginning the transaction surface from the first data access operation instead of from
+	 * transaction begin.
+	 *
+	 * @param lazyTransactionBegin {@literal true} to begin transactions lazily.
+	 * @since 1.2
+	 */
+	public void setLazyTransactionBegin(boolean lazyTransactionBegin) {
+		this.lazyTransactionBegin = lazyTransactionBegin;
+	}
+
+	/**
+	 * Return whether transactions are begun lazily upon first {@link Connection} access.
+	 *
+	 * @since 1.2
+	 */
+	public boolean isLazyTransactionBegin() {
+		return this.lazyTransactionBegin;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
@@ -225,6 +281,11 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 
 		ConnectionFactoryTransactionObject txObject = (ConnectionFactoryTransactionObject) transaction;
 
+		if (isLazyTransactionBegin()
+				&& (!txObject.hasConnectionHolder() || txObject.getConnectionHolder().isSynchronizedWithTransaction())) {
+			return Mono.fromRunnable(() -> doBeginLazily(synchronizationManager, txObject, definition));
+		}
+
 		return Mono.defer(() -> {
 
 			Mono<Connection> connection = null;
@@ -246,8 +307,7 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 
 			return connection.flatMap(con -> {
 
-				return prepareTransactionalConnection(con, definition, transaction).then(Mono.from(con.beginTransaction()))
-						.doOnSuccess(v -> {
+				return beginTransaction(con, definition, transaction).doOnSuccess(v -> {
 							txObject.getConnectionHolder().setTransactionActive(true);
 
 							Duration timeout = determineTimeout(definition);
@@ -281,6 +341,83 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 		}).then();
 	}
 
+	/**
+	 * Bind a {@link ConnectionHolder} that obtains its {@link Connection} and begins the transaction once the first
+	 * {@link Connection} is requested.
+	 */
+	private void doBeginLazily(TransactionSynchronizationManager synchronizationManager,
+			ConnectionFactoryTransactionObject txObject, TransactionDefinition definition) {
+
+		Mono<Connection> connectionInitializer = Mono.from(obtainConnectionFactory().create()).flatMap(con -> {
+
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Acquired deferred Connection [" + con + "] for R2DBC transaction");
+			}
+
+			return beginTransaction(con, definition, txObject) //
+					.doOnSuccess(v -> txObject.getConnectionHolder().setConnection(con)) //
+					.thenReturn(con) //
+					.onErrorResume(e -> ConnectionFactoryUtils.releaseConnection(con, obtainConnectionFactory())
+							.then(Mono.error(e)));
+		}).onErrorMap(e -> new CannotCreateTransactionException("Could not open R2DBC Connection for transaction",
+				e instanceof R2dbcException ? potentiallyTranslateException("Open R2DBC Connection", (R2dbcException) e) : e));
+
+		ConnectionHolder holder = new ConnectionHolder(connectionInitializer);
+		holder.setSynchronizedWithTransaction(true);
+
+		Duration timeout = determineTimeout(definition);
+		if (!timeout.isNegative() && !timeout.isZero()) {
+			holder.setTimeoutInMillis(timeout.toMillis());
+		}
+
+		txObject.setConnectionHolder(holder, true);
+		synchronizationManager.bindResource(obtainConnectionFactory(), holder);
+	}
+
+	private Mono<Void> beginTransaction(Connection con, TransactionDefinition definition, Object transaction) {
+
+		Mono<Void> begin = prepareTransactionalConnection(con, definition, transaction)
+				.then(Mono.from(con.beginTransaction()));
+		String setTransaction = renderSetTransaction(definition);
+
+		if (setTransaction == null) {
+			return begin;
+		}
+
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Applying transaction characteristics to R2DBC Connection [" + con + "] using ["
+					+ setTransaction + "]");
+		}
+
+		return begin.then(Mono.from(con.createStatement(setTransaction).execute())) //
+				.flatMapMany(Result::getRowsUpdated) //
+				.then();
+	}
+
+	/**
+	 * Render the statement applying the characteristics of {@link TransactionDefinition} to the current transaction
+	 * through the configured {@link R2dbcDialect}. Returns {@literal null} if no dialect is configured, the dialect does
+	 * not support such statements or the transaction definition does not declare characteristics to apply.
+	 */
+	@Nullable
+	private String renderSetTransaction(TransactionDefinition definition) {
+
+		if (this.dialect == null) {
+			return null;
+		}
+
+		IsolationLevel isolationLevel = definition.getIsolationLevel() != TransactionDefinition.ISOLATION_DEFAULT
+				? resolveIsolationLevel(definition.getIsolationLevel())
+				: null;
+		boolean readOnly = isEnforceReadOnly() && definition.isReadOnly();
+
+		if (isolationLevel == null && !readOnly) {
+			return null;
+		}
+
+		return this.dialect.renderSetTransaction(isolationLevel, readOnly);
+	}
+
 	/**
 	 * Determine the actual timeout to use for the given definition. Will fall back to this manager's default timeout if
 	 * the transaction definition doesn't specify a non-default value.
@@ -339,6 +476,11 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 			GenericReactiveTransaction status) throws TransactionException {
 
 		ConnectionFactoryTransactionObject txObject = (ConnectionFactoryTransactionObject) status.getTransaction();
+
+		if (!txObject.getConnectionHolder().hasConnection()) {
+			return Mono.empty();
+		}
+
 		Connection connection = txObject.getConnectionHolder().getConnection();
 		if (status.isDebug()) {
 			this.logger.debug("Committing R2DBC transaction on Connection [" + connection + "]");
@@ -357,6 +499,11 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 			GenericReactiveTransaction status) throws TransactionException {
 
 		ConnectionFactoryTransactionObject txObject = (ConnectionFactoryTransactionObject) status.getTransaction();
+
+		if (!txObject.getConnectionHolder().hasConnection()) {
+			return Mono.empty();
+		}
+
 		Connection connection = txObject.getConnectionHolder().getConnection();
 		if (status.isDebug()) {
 			this.logger.debug("Rolling back R2DBC transaction on Connection [" + connection + "]");
@@ -378,7 +525,7 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 
 			ConnectionFactoryTransactionObject txObject = (ConnectionFactoryTransactionObject) status.getTransaction();
 
-			if (status.isDebug()) {
+			if (status.isDebug() && txObject.getConnectionHolder().hasConnection()) {
 				this.logger
 						.debug("Setting R2DBC transaction [" + txObject.getConnectionHolder().getConnection() + "] rollback-only");
 			}
@@ -403,6 +550,12 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 				synchronizationManager.unbindResource(obtainConnectionFactory());
 			}
 
+			// Deferred transaction that never obtained a connection.
+			if (!txObject.getConnectionHolder().hasConnection()) {
+				txObject.getConnectionHolder().clear();
+				return Mono.empty();
+			}
+
 			// Reset connection.
 			Connection con = txObject.getConnectionHolder().getConnection();
 
@@ -443,6 +596,9 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 	 * <p>
 	 * The "SET TRANSACTION READ ONLY" is understood by Oracle, MySQL and Postgres and may work with other databases as
 	 * well. If you'd like to adapt this treatment, override this method accordingly.
+	 * <p>
+	 * Read-only and isolation level characteristics are not applied to the connection if a {@link #setDialect dialect}
+	 * applies them to the transaction through a statement issued after {@link Connection#beginTransaction()}.
 	 *
 	 * @param con the transactional R2DBC Connection
 	 * @param definition the current transaction definition
@@ -455,8 +611,9 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 		ConnectionFactoryTransactionObject txObject = (ConnectionFactoryTransactionObject) transaction;
 
 		Mono<Void> prepare = Mono.empty();
+		boolean applyCharacteristics = renderSetTransaction(definition) == null;
 
-		if (isEnforceReadOnly() && definition.isReadOnly()) {
+		if (applyCharacteristics && isEnforceReadOnly() && definition.isReadOnly()) {
 
 			prepare = Mono.from(con.createStatement("SET TRANSACTION READ ONLY").execute()) //
 					.flatMapMany(Result::getRowsUpdated) //
@@ -465,7 +622,8 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 
 		// Apply specific isolation level, if any.
 		IsolationLevel isolationLevelToUse = resolveIsolationLevel(definition.getIsolationLevel());
-		if (isolationLevelToUse != null && definition.getIsolationLevel() != TransactionDefinition.ISOLATION_DEFAULT) {
+		if (applyCharacteristics && isolationLevelToUse != null
+				&& definition.getIsolationLevel() != TransactionDefinition.ISOLATION_DEFAULT) {
 
 			if (this.logger.isDebugEnabled()) {
 				this.logger
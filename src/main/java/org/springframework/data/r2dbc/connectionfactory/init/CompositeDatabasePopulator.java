@@ -16,12 +16,14 @@
 package org.springframework.data.r2dbc.connectionfactory.init;
 
 import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.springframework.util.Assert;
@@ -29,12 +31,20 @@ import org.springframework.util.Assert;
 /**
  * Composite {@link DatabasePopulator} that delegates to a list of given {@link DatabasePopulator} implementations,
  * executing all scripts.
+ * <p>
+ * Populators are organized in groups that are executed in the order they were added. Populators added through
+ * {@link #addPopulators(DatabasePopulator...)} form a group each so that they run one after another. Populators added
+ * through {@link #addPopulatorGroup(DatabasePopulator...)} are independent of each other and run concurrently on
+ * separate connections when executed through {@link #execute(ConnectionFactory)} with a {@link #setParallelism(int)
+ * parallelism} greater than one.
  *
  * @author Mark Paluch
  */
 public class CompositeDatabasePopulator implements DatabasePopulator {
 
-	private final List<DatabasePopulator> populators = new ArrayList<>(4);
+	private final List<List<DatabasePopulator>> groups = new ArrayList<>(4);
+
+	private int parallelism = 1;
 
 	/**
 	 * Creates an empty {@link CompositeDatabasePopulator}.
@@ -53,7 +63,7 @@ public class CompositeDatabasePopulator implements DatabasePopulator {
 
 		Assert.notNull(populators, "Collection of DatabasePopulator must not be null!");
 
-		this.populators.addAll(populators);
+		populators.forEach(this::addPopulator);
 	}
 
 	/**
@@ -65,7 +75,7 @@ public class CompositeDatabasePopulator implements DatabasePopulator {
 
 		Assert.notNull(populators, "DatabasePopulators must not be null!");
 
-		this.populators.addAll(Arrays.asList(populators));
+		addPopulators(populators);
 	}
 
 	/**
@@ -75,8 +85,8 @@ public class CompositeDatabasePopulator implements DatabasePopulator {
 
 		Assert.notNull(populators, "DatabasePopulators must not be null!");
 
-		this.populators.clear();
-		this.populators.addAll(Arrays.asList(populators));
+		this.groups.clear();
+		addPopulators(populators);
 	}
 
 	/**
@@ -86,14 +96,110 @@ public class CompositeDatabasePopulator implements DatabasePopulator {
 
 		Assert.notNull(populators, "DatabasePopulators must not be null!");
 
-		this.populators.addAll(Arrays.asList(populators));
+		for (DatabasePopulator populator : populators) {
+			addPopulator(populator);
+		}
+	}
+
+	/**
+	 * Add a group of independent populators. The group runs after all previously added populators completed.
+	 * Populators within the group may run concurrently on separate connections when executed through
+	 * {@link #execute(ConnectionFactory)}.
+	 *
+	 * @param populators one or more populators that do not depend on each other.
+	 * @since 1.2
+	 */
+	public void addPopulatorGroup(DatabasePopulator... populators) {
+
+		Assert.notNull(populators, "DatabasePopulators must not be null!");
+		Assert.noNullElements(populators, "DatabasePopulators must not contain null elements!");
+
+		this.groups.add(new ArrayList<>(Arrays.asList(populators)));
+	}
+
+	/**
+	 * Set the maximum number of populators of a group to run concurrently when executed through
+	 * {@link #execute(ConnectionFactory)}.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 *
+	 * @param parallelism the maximum number of concurrently running populators, must be greater than zero.
+	 * @since 1.2
+	 */
+	public void setParallelism(int parallelism) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+
+		this.parallelism = parallelism;
 	}
 
+	/**
+	 * Return the maximum number of populators of a group to run concurrently.
+	 *
+	 * @return the maximum number of concurrently running populators.
+	 * @since 1.2
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	private void addPopulator(DatabasePopulator populator) {
+
+		Assert.notNull(populator, "DatabasePopulator must not be null!");
+
+		this.groups.add(Collections.singletonList(populator));
+	}
+
+	/**
+	 * Populate the database using the provided R2DBC {@link Connection}. All populators run sequentially on the given
+	 * {@link Connection}, including populators of a {@link #addPopulatorGroup(DatabasePopulator...) group}.
+	 *
+	 * @param connection the R2DBC connection to use to populate the db.
+	 * @return {@link Mono} that initiates script execution and is notified upon completion.
+	 * @throws ScriptException in all other error cases
+	 */
 	@Override
 	public Mono<Void> populate(Connection connection) throws ScriptException {
 
 		Assert.notNull(connection, "Connection must not be null!");
 
-		return Flux.fromIterable(this.populators).concatMap(it -> it.populate(connection)).then();
+		return Flux.fromIterable(this.groups) //
+				.concatMap(group -> Flux.fromIterable(group).concatMap(it -> it.populate(connection))) //
+				.then();
+	}
+
+	/**
+	 * Execute this {@link CompositeDatabasePopulator} against the given {@link ConnectionFactory}. Groups run in the
+	 * order they were added. Each populator obtains its own {@link Connection} from
+	 * {@link ConnectionFactory#create()} so that up to {@link #setParallelism(int) parallelism} populators of the same
+	 * group run concurrently. Connections are obtained directly from the {@link ConnectionFactory} and therefore do not
+	 * participate in a transaction that is bound to the current subscription.
+	 *
+	 * @param connectionFactory the {@link ConnectionFactory} to execute against, must not be {@literal null}.
+	 * @return {@link Mono} that initiates script execution and is notified upon completion.
+	 * @throws ScriptException if an error occurs.
+	 * @since 1.2
+	 */
+	public Mono<Void> execute(ConnectionFactory connectionFactory) throws ScriptException {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+
+		return Flux.fromIterable(this.groups) //
+				.concatMap(group -> Flux.fromIterable(group).flatMap(it -> execute(it, connectionFactory), this.parallelism)) //
+				.then();
+	}
+
+	private static Mono<Void> execute(DatabasePopulator populator, ConnectionFactory connectionFactory) {
+
+		Mono<Connection> connection = Mono.from(connectionFactory.create());
+
+		return Mono.usingWhen(connection, //
+				populator::populate, //
+				Connection::close, //
+				(it, err) -> it.close(), //
+				Connection::close) //
+				.onErrorMap(ex -> !(ex instanceof ScriptException), ex -> {
+					return new UncategorizedScriptException("Failed to execute database script", ex);
+				});
 	}
 }
@@ -34,7 +34,9 @@ public abstract class DatabasePopulatorUtils {
 	private DatabasePopulatorUtils() {}
 
 	/**
-	 * Execute the given {@link DatabasePopulator} against the given {@link io.r2dbc.spi.ConnectionFactory}.
+	 * Execute the given {@link DatabasePopulator} against the given {@link io.r2dbc.spi.ConnectionFactory}. A
+	 * {@link CompositeDatabasePopulator} configured with a parallelism greater than one obtains a {@link Connection} per
+	 * populator to run independent populators concurrently.
 	 *
 	 * @param populator the {@link DatabasePopulator} to execute.
 	 * @param connectionFactory the {@link ConnectionFactory} to execute against.
@@ -46,6 +48,11 @@ public abstract class DatabasePopulatorUtils {
 		Assert.notNull(populator, "DatabasePopulator must not be null");
 		Assert.notNull(connectionFactory, "ConnectionFactory must not be null");
 
+		if (populator instanceof CompositeDatabasePopulator
+				&& ((CompositeDatabasePopulator) populator).getParallelism() > 1) {
+			return ((CompositeDatabasePopulator) populator).execute(connectionFactory);
+		}
+
 		return Mono.usingWhen(ConnectionFactoryUtils.getConnection(connectionFactory), //
 				populator::populate, //
 				it -> ConnectionFactoryUtils.releaseConnection(it, connectionFactory), //
@@ -64,6 +64,10 @@ public class ResourceDatabasePopulator implements DatabasePopulator {
 
 	private boolean ignoreFailedDrops = false;
 
+	private int batchSize = 1;
+
+	private boolean transactional = false;
+
 	private DataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
 
 	/**
@@ -235,6 +239,35 @@ public class ResourceDatabasePopulator implements DatabasePopulator {
 		this.ignoreFailedDrops = ignoreFailedDrops;
 	}
 
+	/**
+	 * Set the maximum number of statements to send to the database as a single {@link Connection#createBatch() batch}.
+	 * <p/>
+	 * Defaults to {@code 1} so that each statement is executed individually. If a batch fails and
+	 * {@link #setContinueOnError(boolean) continueOnError} or {@link #setIgnoreFailedDrops(boolean) ignoreFailedDrops} is
+	 * enabled, the statements of that batch are executed again individually to apply the error policy. Statements of the
+	 * failed batch that were already applied are executed a second time.
+	 *
+	 * @param batchSize the maximum number of statements per batch, must be greater than zero.
+	 * @since 1.2
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Flag to indicate that each script should be executed within its own transaction that is committed after the script
+	 * completes and rolled back if the script fails or its execution is cancelled.
+	 * <p/>
+	 * Defaults to {@literal false}.
+	 *
+	 * @param transactional {@literal true} if each script should be executed within a transaction.
+	 * @since 1.2
+	 */
+	public void setTransactional(boolean transactional) {
+		this.transactional = transactional;
+	}
+
 	/**
 	 * Set the {@link DataBufferFactory} to use for {@link Resource} loading.
 	 * <p/>
@@ -258,12 +291,28 @@ public class ResourceDatabasePopulator implements DatabasePopulator {
 
 			EncodedResource encodedScript = new EncodedResource(it, this.sqlScriptEncoding);
 
-			return ScriptUtils.executeSqlScript(connection, encodedScript, this.dataBufferFactory, this.continueOnError,
-					this.ignoreFailedDrops, this.commentPrefix, this.separator, this.blockCommentStartDelimiter,
-					this.blockCommentEndDelimiter);
+			Mono<Void> execution = ScriptUtils.executeSqlScript(connection, encodedScript, this.dataBufferFactory,
+					this.continueOnError, this.ignoreFailedDrops, this.commentPrefix, this.separator,
+					this.blockCommentStartDelimiter, this.blockCommentEndDelimiter, this.batchSize);
+
+			return this.transactional ? inTransaction(connection, execution) : execution;
 		}).then();
 	}
 
+	private static Mono<Void> inTransaction(Connection connection, Mono<Void> execution) {
+
+		return Mono.usingWhen(Mono.from(connection.beginTransaction()).thenReturn(connection), //
+				it -> execution, //
+				Connection::commitTransaction, //
+				(it, ex) -> Mono.from(it.rollbackTransaction()).onErrorResume(rollbackFailure -> {
+
+					// retain the original failure, the rollback failure is only recorded alongside
+					ex.addSuppressed(rollbackFailure);
+					return Mono.empty();
+				}), //
+				Connection::rollbackTransaction);
+	}
+
 	/**
 	 * Execute this {@link ResourceDatabasePopulator} against the given {@link ConnectionFactory}.
 	 * <p/>
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.connectionfactory.init;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Incremental splitter for SQL scripts. Script text is supplied in chunks through {@link #feed(CharSequence)} and
+ * statements are returned as soon as their separator has been read so that only the statement in progress is retained
+ * in memory.
+ * <p>
+ * Statement separators, line comments and block comments are removed and multiple adjacent whitespace characters are
+ * collapsed into a single space, following the rules of {@link ScriptUtils#splitSqlScript(String, String, List)}.
+ *
+ * @since 1.2
+ */
+class ScriptStatementSplitter {
+
+	private final @Nullable EncodedResource resource;
+
+	private final String separatorCandidate;
+
+	private final String commentPrefix;
+
+	private final String blockCommentStartDelimiter;
+
+	private final String blockCommentEndDelimiter;
+
+	private final boolean scriptMode;
+
+	private final StringBuilder input = new StringBuilder();
+
+	private final StringBuilder statement = new StringBuilder();
+
+	private final StringBuilder tail = new StringBuilder();
+
+	private @Nullable String separator;
+
+	private boolean inSingleQuote;
+
+	private boolean inDoubleQuote;
+
+	private boolean inEscape;
+
+	private int detectionIndex;
+
+	private boolean detectionInLiteral;
+
+	private boolean detectionInEscape;
+
+	private ScriptStatementSplitter(@Nullable EncodedResource resource, String separator, String commentPrefix,
+			String blockCommentStartDelimiter, String blockCommentEndDelimiter, boolean scriptMode) {
+
+		Assert.notNull(separator, "'separator' must not be null");
+		Assert.hasText(commentPrefix, "'commentPrefix' must not be null or empty");
+		Assert.hasText(blockCommentStartDelimiter, "'blockCommentStartDelimiter' must not be null or empty");
+		Assert.hasText(blockCommentEndDelimiter, "'blockCommentEndDelimiter' must not be null or empty");
+
+		this.resource = resource;
+		this.separatorCandidate = separator;
+		this.commentPrefix = commentPrefix;
+		this.blockCommentStartDelimiter = blockCommentStartDelimiter;
+		this.blockCommentEndDelimiter = blockCommentEndDelimiter;
+		this.scriptMode = scriptMode;
+
+		if (!scriptMode || ScriptUtils.EOF_STATEMENT_SEPARATOR.equals(separator)) {
+			this.separator = separator;
+		}
+	}
+
+	/**
+	 * Create a {@link ScriptStatementSplitter} that splits statements using the given {@code separator}.
+	 *
+	 * @param resource the resource from which the script is read, used for error reporting.
+	 * @param separator text separating each statement.
+	 * @param commentPrefix the prefix that identifies SQL line comments.
+	 * @param blockCommentStartDelimiter the <em>start</em> block comment delimiter.
+	 * @param blockCommentEndDelimiter the <em>end</em> block comment delimiter.
+	 * @return the {@link ScriptStatementSplitter}.
+	 */
+	static ScriptStatementSplitter forSeparator(@Nullable EncodedResource resource, String separator,
+			String commentPrefix, String blockCommentStartDelimiter, String blockCommentEndDelimiter) {
+		return new ScriptStatementSplitter(resource, separator, commentPrefix, blockCommentStartDelimiter,
+				blockCommentEndDelimiter, false);
+	}
+
+	/**
+	 * Create a {@link ScriptStatementSplitter} for scripts read from a resource. The splitter defaults the separator to
+	 * {@value ScriptUtils#DEFAULT_STATEMENT_SEPARATOR} and falls back to
+	 * {@value ScriptUtils#FALLBACK_STATEMENT_SEPARATOR} if the script does not contain the separator. Script text is
+	 * retained until the separator is found for the first time.
+	 *
+	 * @param resource the resource from which the script is read, used for error reporting.
+	 * @param separator text separating each statement, may be {@literal null}.
+	 * @param commentPrefix the prefix that identifies SQL line comments.
+	 * @param blockCommentStartDelimiter the <em>start</em> block comment delimiter.
+	 * @param blockCommentEndDelimiter the <em>end</em> block comment delimiter.
+	 * @return the {@link ScriptStatementSplitter}.
+	 */
+	static ScriptStatementSplitter forScript(@Nullable EncodedResource resource, @Nullable String separator,
+			String commentPrefix, String blockCommentStartDelimiter, String blockCommentEndDelimiter) {
+		return new ScriptStatementSplitter(resource,
+				separator != null ? separator : ScriptUtils.DEFAULT_STATEMENT_SEPARATOR, commentPrefix,
+				blockCommentStartDelimiter, blockCommentEndDelimiter, true);
+	}
+
+	/**
+	 * Feed the next chunk of script text.
+	 *
+	 * @param text the script text.
+	 * @return statements completed by this chunk.
+	 * @throws ScriptException if an error occurred while splitting the SQL script.
+	 */
+	List<String> feed(CharSequence text) throws ScriptException {
+
+		this.input.append(text);
+
+		if (this.scriptMode) {
+			retainTail(text);
+		}
+
+		if (this.separator == null) {
+
+			if (!containsSeparator(false)) {
+				return Collections.emptyList();
+			}
+
+			this.separator = this.separatorCandidate;
+		}
+
+		return split(false);
+	}
+
+	/**
+	 * Signal that the script was read entirely.
+	 *
+	 * @return remaining statements.
+	 * @throws ScriptException if an error occurred while splitting the SQL script.
+	 */
+	List<String> complete() throws ScriptException {
+
+		if (this.scriptMode) {
+			appendSeparatorIfNecessary();
+		}
+
+		if (this.separator == null) {
+			this.separator = containsSeparator(true) ? this.separatorCandidate : ScriptUtils.FALLBACK_STATEMENT_SEPARATOR;
+		}
+
+		List<String> statements = split(true);
+
+		if (StringUtils.hasText(this.statement)) {
+			statements.add(this.statement.toString());
+			this.statement.setLength(0);
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Mirrors {@link ScriptUtils#containsSqlScriptDelimiters(String, String)} for incrementally supplied input.
+	 */
+	private boolean containsSeparator(boolean endOfInput) {
+
+		String delim = this.separatorCandidate;
+		int i = this.detectionIndex;
+
+		for (; i < this.input.length(); i++) {
+
+			if (!endOfInput && this.input.length() - i < delim.length()) {
+				break;
+			}
+
+			char c = this.input.charAt(i);
+			if (this.detectionInEscape) {
+				this.detectionInEscape = false;
+				continue;
+			}
+			// MySQL style escapes
+			if (c == '\\') {
+				this.detectionInEscape = true;
+				continue;
+			}
+			if (c == '\'') {
+				this.detectionInLiteral = !this.detectionInLiteral;
+			}
+			if (!this.detectionInLiteral && startsWith(this.input, delim, i)) {
+				return true;
+			}
+		}
+
+		this.detectionIndex = i;
+		return false;
+	}
+
+	private List<String> split(boolean endOfInput) throws ScriptException {
+
+		String separator = this.separator;
+		int lookahead = Math.max(separator.length(),
+				Math.max(this.commentPrefix.length(), this.blockCommentStartDelimiter.length()));
+		List<String> statements = new ArrayList<>();
+		StringBuilder sb = this.statement;
+		int i = 0;
+
+		while (i < this.input.length()) {
+
+			if (!endOfInput && this.input.length() - i < lookahead) {
+				break;
+			}
+
+			char c = this.input.charAt(i);
+			if (this.inEscape) {
+				this.inEscape = false;
+				sb.append(c);
+				i++;
+				continue;
+			}
+			// MySQL style escapes
+			if (c == '\\') {
+				this.inEscape = true;
+				sb.append(c);
+				i++;
+				continue;
+			}
+
+			boolean inSingleQuote = this.inSingleQuote;
+			boolean inDoubleQuote = this.inDoubleQuote;
+			if (!inDoubleQuote && (c == '\'')) {
+				inSingleQuote = !inSingleQuote;
+			} else if (!inSingleQuote && (c == '"')) {
+				inDoubleQuote = !inDoubleQuote;
+			}
+
+			if (!inSingleQuote && !inDoubleQuote) {
+				if (startsWith(this.input, separator, i)) {
+					// We've reached the end of the current statement
+					if (sb.length() > 0) {
+						statements.add(sb.toString());
+						sb.setLength(0);
+					}
+					i += separator.length();
+					continue;
+				} else if (startsWith(this.input, this.commentPrefix, i)) {
+					// Skip over any content from the start of the comment to the EOL
+					int indexOfNextNewline = this.input.indexOf("\n", i);
+					if (indexOfNextNewline > i) {
+						i = indexOfNextNewline + 1;
+						continue;
+					} else if (!endOfInput) {
+						// Wait for the end of the line
+						break;
+					} else {
+						// If there's no EOL, we must be at the end of the script, so stop here.
+						i = this.input.length();
+						break;
+					}
+				} else if (startsWith(this.input, this.blockCommentStartDelimiter, i)) {
+					// Skip over any block comments
+					int indexOfCommentEnd = this.input.indexOf(this.blockCommentEndDelimiter, i);
+					if (indexOfCommentEnd > i) {
+						i = indexOfCommentEnd + this.blockCommentEndDelimiter.length();
+						continue;
+					} else if (!endOfInput) {
+						// Wait for the end of the block comment
+						break;
+					} else {
+						throw new ScriptParseException("Missing block comment end delimiter: " + this.blockCommentEndDelimiter,
+								this.resource);
+					}
+				} else if (c == ' ' || c == '\r' || c == '\n' || c == '\t') {
+					// Avoid multiple adjacent whitespace characters
+					if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') {
+						c = ' ';
+					} else {
+						i++;
+						continue;
+					}
+				}
+			}
+
+			this.inSingleQuote = inSingleQuote;
+			this.inDoubleQuote = inDoubleQuote;
+			sb.append(c);
+			i++;
+		}
+
+		this.input.delete(0, i);
+		this.detectionIndex = Math.max(0, this.detectionIndex - i);
+
+		return statements;
+	}
+
+	/**
+	 * Retain the trailing script text required to determine whether the script ends with a separator.
+	 */
+	private void retainTail(CharSequence text) {
+
+		int retain = Math.max(this.separatorCandidate.trim().length(), 1);
+
+		this.tail.append(text);
+		if (this.tail.length() > retain) {
+			this.tail.delete(0, this.tail.length() - retain);
+		}
+	}
+
+	/**
+	 * Complete a trailing separator that ends in whitespace if the script ends with the trimmed separator.
+	 */
+	private void appendSeparatorIfNecessary() {
+
+		String separator = this.separatorCandidate;
+		String trimmed = separator.trim();
+		if (trimmed.length() == separator.length()) {
+			return;
+		}
+
+		if (this.tail.lastIndexOf(trimmed) == this.tail.length() - trimmed.length()) {
+			this.input.append(separator.substring(trimmed.length()));
+		}
+	}
+
+	private static boolean startsWith(StringBuilder input, String prefix, int offset) {
+
+		if (input.length() - offset < prefix.length()) {
+			return false;
+		}
+
+		for (int i = 0; i < prefix.length(); i++) {
+			if (input.charAt(offset + i) != prefix.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.r2dbc.connectionfactory.init;
 
+import io.r2dbc.spi.Batch;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.Result;
 import reactor.core.publisher.Flux;
@@ -24,8 +25,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
-import java.util.ArrayList;
+import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -33,6 +36,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.reactivestreams.Publisher;
 
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
@@ -40,6 +45,7 @@ import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.core.io.support.EncodedResource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
 import org.springframework.util.StringUtils;
 
 /**
@@ -161,78 +167,12 @@ public abstract class ScriptUtils {
 			throws ScriptException {
 
 		Assert.hasText(script, "'script' must not be null or empty");
-		Assert.notNull(separator, "'separator' must not be null");
-		Assert.hasText(commentPrefix, "'commentPrefix' must not be null or empty");
-		Assert.hasText(blockCommentStartDelimiter, "'blockCommentStartDelimiter' must not be null or empty");
-		Assert.hasText(blockCommentEndDelimiter, "'blockCommentEndDelimiter' must not be null or empty");
-
-		StringBuilder sb = new StringBuilder();
-		boolean inSingleQuote = false;
-		boolean inDoubleQuote = false;
-		boolean inEscape = false;
 
-		for (int i = 0; i < script.length(); i++) {
-			char c = script.charAt(i);
-			if (inEscape) {
-				inEscape = false;
-				sb.append(c);
-				continue;
-			}
-			// MySQL style escapes
-			if (c == '\\') {
-				inEscape = true;
-				sb.append(c);
-				continue;
-			}
-			if (!inDoubleQuote && (c == '\'')) {
-				inSingleQuote = !inSingleQuote;
-			} else if (!inSingleQuote && (c == '"')) {
-				inDoubleQuote = !inDoubleQuote;
-			}
-			if (!inSingleQuote && !inDoubleQuote) {
-				if (script.startsWith(separator, i)) {
-					// We've reached the end of the current statement
-					if (sb.length() > 0) {
-						statements.add(sb.toString());
-						sb = new StringBuilder();
-					}
-					i += separator.length() - 1;
-					continue;
-				} else if (script.startsWith(commentPrefix, i)) {
-					// Skip over any content from the start of the comment to the EOL
-					int indexOfNextNewline = script.indexOf('\n', i);
-					if (indexOfNextNewline > i) {
-						i = indexOfNextNewline;
-						continue;
-					} else {
-						// If there's no EOL, we must be at the end of the script, so stop here.
-						break;
-					}
-				} else if (script.startsWith(blockCommentStartDelimiter, i)) {
-					// Skip over any block comments
-					int indexOfCommentEnd = script.indexOf(blockCommentEndDelimiter, i);
-					if (indexOfCommentEnd > i) {
-						i = indexOfCommentEnd + blockCommentEndDelimiter.length() - 1;
-						continue;
-					} else {
-						throw new ScriptParseException("Missing block comment end delimiter: " + blockCommentEndDelimiter,
-								resource);
-					}
-				} else if (c == ' ' || c == '\r' || c == '\n' || c == '\t') {
-					// Avoid multiple adjacent whitespace characters
-					if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') {
-						c = ' ';
-					} else {
-						continue;
-					}
-				}
-			}
-			sb.append(c);
-		}
+		ScriptStatementSplitter splitter = ScriptStatementSplitter.forSeparator(resource, separator, commentPrefix,
+				blockCommentStartDelimiter, blockCommentEndDelimiter);
 
-		if (StringUtils.hasText(sb)) {
-			statements.add(sb.toString());
-		}
+		statements.addAll(splitter.feed(script));
+		statements.addAll(splitter.complete());
 	}
 
 	/**
@@ -305,8 +245,7 @@ public abstract class ScriptUtils {
 		String currentStatement = lineNumberReader.readLine();
 		StringBuilder scriptBuilder = new StringBuilder();
 		while (currentStatement != null) {
-			if ((blockCommentEndDelimiter != null && currentStatement.contains(blockCommentEndDelimiter))
-					|| (lineCommentPrefix != null && !currentStatement.startsWith(lineCommentPrefix))) {
+			if (isScriptLine(currentStatement, lineCommentPrefix, blockCommentEndDelimiter)) {
 				if (scriptBuilder.length() > 0) {
 					scriptBuilder.append('\n');
 				}
@@ -318,6 +257,16 @@ public abstract class ScriptUtils {
 		return scriptBuilder.toString();
 	}
 
+	/**
+	 * Determine whether a line is part of the script. Lines <em>beginning</em> with the comment prefix are excluded unless
+	 * they terminate a block comment.
+	 */
+	private static boolean isScriptLine(String line, @Nullable String lineCommentPrefix,
+			@Nullable String blockCommentEndDelimiter) {
+		return (blockCommentEndDelimiter != null && line.contains(blockCommentEndDelimiter))
+				|| (lineCommentPrefix != null && !line.startsWith(lineCommentPrefix));
+	}
+
 	private static void appendSeparatorToScriptIfNecessary(StringBuilder scriptBuilder, @Nullable String separator) {
 		if (separator == null) {
 			return;
@@ -333,6 +282,58 @@ public abstract class ScriptUtils {
 		}
 	}
 
+	/**
+	 * Read and split a script without blocking from the provided resource. Statements are emitted while the resource is
+	 * read so that only the statement in progress is held in memory, regardless of the script size.
+	 * <p/>
+	 * Lines <em>beginning</em> with the comment prefix are excluded; statement separators and comments are removed from
+	 * the emitted statements. If the script does not contain the separator, statements are split using
+	 * {@value #FALLBACK_STATEMENT_SEPARATOR}; determining this requires the script to be read up to the first separator.
+	 *
+	 * @param resource the {@link EncodedResource} containing the script to be processed.
+	 * @param dataBufferFactory the buffer factory for non-blocking script loading.
+	 * @param commentPrefix the prefix that identifies single-line comments in the SQL script (typically "--").
+	 * @param separator the script statement separator; defaults to {@value #DEFAULT_STATEMENT_SEPARATOR} if not specified
+	 *          and falls back to {@value #FALLBACK_STATEMENT_SEPARATOR} as a last resort; may be set to
+	 *          {@value #EOF_STATEMENT_SEPARATOR} to signal that the script contains a single statement without a
+	 *          separator.
+	 * @param blockCommentStartDelimiter the <em>start</em> block comment delimiter.
+	 * @param blockCommentEndDelimiter the <em>end</em> block comment delimiter.
+	 * @return a {@link Flux} emitting the individual statements.
+	 * @since 1.2
+	 */
+	public static Flux<String> readStatements(EncodedResource resource, DataBufferFactory dataBufferFactory,
+			String commentPrefix, @Nullable String separator, String blockCommentStartDelimiter,
+			String blockCommentEndDelimiter) {
+
+		return Flux.defer(() -> {
+
+			ScriptStatementSplitter splitter = ScriptStatementSplitter.forScript(resource, separator, commentPrefix,
+					blockCommentStartDelimiter, blockCommentEndDelimiter);
+			AtomicBoolean firstLine = new AtomicBoolean(true);
+
+			return readLines(resource, dataBufferFactory) //
+					.filter(line -> isScriptLine(line, commentPrefix, blockCommentEndDelimiter)) //
+					.concatMapIterable(line -> {
+						return splitter.feed(firstLine.compareAndSet(true, false) ? line : "\n" + line);
+					}) //
+					.concatWith(Flux.defer(() -> Flux.fromIterable(splitter.complete())));
+		});
+	}
+
+	private static Flux<String> readLines(EncodedResource resource, DataBufferFactory dataBufferFactory) {
+
+		Charset charset = resource.getCharset() != null ? resource.getCharset() : Charset.defaultCharset();
+
+		StringDecoder decoder = StringDecoder.textPlainOnly();
+		decoder.setMaxInMemorySize(-1);
+
+		return decoder
+				.decode(DataBufferUtils.read(resource.getResource(), dataBufferFactory, 8192),
+						ResolvableType.forClass(String.class), new MimeType("text", "plain", charset), Collections.emptyMap()) //
+				.onErrorMap(IOException.class, ex -> new CannotReadScriptException(resource, ex));
+	}
+
 	/**
 	 * Does the provided SQL script contain the specified delimiter?
 	 *
@@ -452,6 +453,46 @@ public abstract class ScriptUtils {
 			DataBufferFactory dataBufferFactory, boolean continueOnError, boolean ignoreFailedDrops, String commentPrefix,
 			@Nullable String separator, String blockCommentStartDelimiter, String blockCommentEndDelimiter)
 			throws ScriptException {
+		return executeSqlScript(connection, resource, dataBufferFactory, continueOnError, ignoreFailedDrops, commentPrefix,
+				separator, blockCommentStartDelimiter, blockCommentEndDelimiter, 1);
+	}
+
+	/**
+	 * Execute the given SQL script grouping statements into {@link Batch batches}.
+	 * <p/>
+	 * Statement separators and comments will be removed before executing statements within the supplied script. Up to
+	 * {@code batchSize} consecutive statements are sent to the database as a single {@link Connection#createBatch()
+	 * batch}. If a batch fails and {@code continueOnError} or {@code ignoreFailedDrops} is enabled, the statements of that
+	 * batch are executed again individually so that the error policy can be applied to each statement. Statements of the
+	 * failed batch that the database has already applied are therefore executed a second time.
+	 * <p/>
+	 * <strong>Warning</strong>: this method does <em>not</em> release the provided {@link Connection}.
+	 *
+	 * @param connection the R2DBC connection to use to execute the script; already configured and ready to use.
+	 * @param dataBufferFactory the buffer factory for non-blocking script loading.
+	 * @param resource the resource (potentially associated with a specific encoding) to load the SQL script from.
+	 * @param continueOnError whether or not to continue without throwing an exception in the event of an error.
+	 * @param ignoreFailedDrops whether or not to continue in the event of specifically an error on a {@code DROP}
+	 *          statement.
+	 * @param commentPrefix the prefix that identifies single-line comments in the SQL script (typically "--").
+	 * @param separator the script statement separator; defaults to {@value #DEFAULT_STATEMENT_SEPARATOR} if not specified
+	 *          and falls back to {@value #FALLBACK_STATEMENT_SEPARATOR} as a last resort; may be set to
+	 *          {@value #EOF_STATEMENT_SEPARATOR} to signal that the script contains a single statement without a
+	 *          separator.
+	 * @param blockCommentStartDelimiter the <em>start</em> block comment delimiter.
+	 * @param blockCommentEndDelimiter the <em>end</em> block comment delimiter.
+	 * @param batchSize maximum number of statements per batch. A batch size of {@code 1} executes each statement
+	 *          individually.
+	 * @return {@link Mono} that initiates script execution and is notified upon completion.
+	 * @throws ScriptException if an error occurred while executing the SQL script.
+	 * @since 1.2
+	 */
+	public static Mono<Void> executeSqlScript(Connection connection, EncodedResource resource,
+			DataBufferFactory dataBufferFactory, boolean continueOnError, boolean ignoreFailedDrops, String commentPrefix,
+			@Nullable String separator, String blockCommentStartDelimiter, String blockCommentEndDelimiter, int batchSize)
+			throws ScriptException {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
 
 		if (logger.isDebugEnabled()) {
 			logger.debug("Executing SQL script from " + resource);
@@ -459,19 +500,27 @@ public abstract class ScriptUtils {
 
 		long startTime = System.currentTimeMillis();
 
-		Mono<String> script = readScript(resource, dataBufferFactory, commentPrefix, separator, blockCommentEndDelimiter)
-				.onErrorMap(IOException.class, ex -> new CannotReadScriptException(resource, ex));
+		Flux<String> statements = readStatements(resource, dataBufferFactory, commentPrefix, separator,
+				blockCommentStartDelimiter, blockCommentEndDelimiter);
 
 		AtomicInteger statementNumber = new AtomicInteger();
 
-		Flux<Void> executeScript = script.flatMapIterable(it -> {
-			return splitStatements(it, resource, commentPrefix, separator, blockCommentStartDelimiter,
-					blockCommentEndDelimiter);
-		}).concatMap(statement -> {
+		Flux<Void> executeScript;
 
-			statementNumber.incrementAndGet();
-			return runStatement(statement, connection, resource, continueOnError, ignoreFailedDrops, statementNumber);
-		});
+		if (batchSize == 1) {
+			executeScript = statements.concatMap(statement -> {
+
+				return runStatement(statement, connection, resource, continueOnError, ignoreFailedDrops,
+						statementNumber.incrementAndGet());
+			});
+		} else {
+			executeScript = statements.buffer(batchSize).concatMap(batch -> {
+
+				int firstStatementNumber = statementNumber.get() + 1;
+				statementNumber.addAndGet(batch.size());
+				return runBatch(batch, connection, resource, continueOnError, ignoreFailedDrops, firstStatementNumber);
+			});
+		}
 
 		if (logger.isDebugEnabled()) {
 
@@ -488,26 +537,48 @@ public abstract class ScriptUtils {
 				.then();
 	}
 
-	private static List<String> splitStatements(String script, EncodedResource resource, String commentPrefix,
-			@Nullable String separator, String blockCommentStartDelimiter, String blockCommentEndDelimiter) {
+	private static Publisher<? extends Void> runBatch(List<String> statements, Connection connection,
+			EncodedResource resource, boolean continueOnError, boolean ignoreFailedDrops, int firstStatementNumber) {
 
-		String separatorToUse = separator;
-		if (separatorToUse == null) {
-			separatorToUse = DEFAULT_STATEMENT_SEPARATOR;
+		if (statements.size() == 1) {
+			return runStatement(statements.get(0), connection, resource, continueOnError, ignoreFailedDrops,
+					firstStatementNumber);
 		}
-		if (!EOF_STATEMENT_SEPARATOR.equals(separatorToUse) && !containsSqlScriptDelimiters(script, separatorToUse)) {
-			separatorToUse = FALLBACK_STATEMENT_SEPARATOR;
+
+		Batch batch = connection.createBatch();
+		statements.forEach(batch::add);
+
+		Mono<Long> execution = Flux.from(batch.execute()) //
+				.flatMap(Result::getRowsUpdated) //
+				.collect(Collectors.summingLong(it -> it));
+
+		if (logger.isDebugEnabled()) {
+			execution = execution.doOnNext(rowsAffected -> {
+				logger.debug(rowsAffected + " returned as update count for batch of " + statements.size() + " statements");
+			});
 		}
 
-		List<String> statements = new ArrayList<>();
-		splitSqlScript(resource, script, separatorToUse, commentPrefix, blockCommentStartDelimiter,
-				blockCommentEndDelimiter, statements);
+		if (!continueOnError && !ignoreFailedDrops) {
+			return execution.onErrorMap(ex -> new ScriptStatementFailedException(String.join("; ", statements),
+					firstStatementNumber, resource, ex)).then();
+		}
+
+		return execution.then().onErrorResume(ex -> {
 
-		return statements;
+			if (logger.isDebugEnabled()) {
+				logger.debug("Batch of " + statements.size() + " statements starting at statement #" + firstStatementNumber
+						+ " failed, executing statements individually", ex);
+			}
+
+			return Flux.range(0, statements.size()) //
+					.concatMap(i -> runStatement(statements.get(i), connection, resource, continueOnError, ignoreFailedDrops,
+							firstStatementNumber + i)) //
+					.then();
+		});
 	}
 
 	private static Publisher<? extends Void> runStatement(String statement, Connection connection,
-			EncodedResource resource, boolean continueOnError, boolean ignoreFailedDrops, AtomicInteger statementNumber) {
+			EncodedResource resource, boolean continueOnError, boolean ignoreFailedDrops, int statementNumber) {
 
 		Mono<Long> execution = Flux.from(connection.createStatement(statement).execute()) //
 				.flatMap(Result::getRowsUpdated) //
@@ -524,11 +595,11 @@ public abstract class ScriptUtils {
 			boolean dropStatement = StringUtils.startsWithIgnoreCase(statement.trim(), "drop");
 			if (continueOnError || (dropStatement && ignoreFailedDrops)) {
 				if (logger.isDebugEnabled()) {
-					logger.debug(ScriptStatementFailedException.buildErrorMessage(statement, statementNumber.get(), resource),
+					logger.debug(ScriptStatementFailedException.buildErrorMessage(statement, statementNumber, resource),
 							ex);
 				}
 			} else {
-				return Mono.error(new ScriptStatementFailedException(statement, statementNumber.get(), resource, ex));
+				return Mono.error(new ScriptStatementFailedException(statement, statementNumber, resource, ex));
 			}
 
 			return Mono.empty();
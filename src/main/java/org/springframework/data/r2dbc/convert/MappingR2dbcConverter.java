@@ -15,9 +15,14 @@
  */
 package org.springframework.data.r2dbc.convert;
 
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.Clob;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -25,8 +30,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
 
+import org.reactivestreams.Publisher;
+
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.mapping.MappingException;
@@ -60,6 +70,8 @@ import org.springframework.util.CollectionUtils;
  */
 public class MappingR2dbcConverter extends BasicRelationalConverter implements R2dbcConverter {
 
+	private static final DefaultDataBufferFactory DATA_BUFFER_FACTORY = new DefaultDataBufferFactory();
+
 	/**
 	 * Creates a new {@link MappingR2dbcConverter} given {@link MappingContext}.
 	 *
@@ -156,7 +168,9 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 
 		try {
 
-			if (property.isEntity()) {
+			boolean lobStream = isLobStream(property.getTypeInformation());
+
+			if (!lobStream && property.isEntity()) {
 				return readEntityFrom(row, metadata, property);
 			}
 
@@ -165,6 +179,10 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 				return null;
 			}
 
+			if (lobStream) {
+				return readLobStream(row, identifier, property.getTypeInformation());
+			}
+
 			Object value = row.get(identifier);
 			return readValue(value, property.getTypeInformation());
 
@@ -348,6 +366,12 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 				continue;
 			}
 
+			if (isLobStream(property.getTypeInformation())) {
+				sink.put(property.getColumnName(),
+						SettableValue.from(writeLobStream((Publisher<?>) value, property.getTypeInformation())));
+				continue;
+			}
+
 			if (getConversions().isSimpleType(value.getClass())) {
 				writeSimpleInternal(sink, value, property);
 			} else {
@@ -431,7 +455,10 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 
 	private void writeNullInternal(OutboundRow sink, RelationalPersistentProperty property) {
 
-		sink.put(property.getColumnName(), SettableValue.empty(getPotentiallyConvertedSimpleNullType(property.getType())));
+		Class<?> type = isLobStream(property.getTypeInformation()) ? getLobType(property.getTypeInformation())
+				: getPotentiallyConvertedSimpleNullType(property.getType());
+
+		sink.put(property.getColumnName(), SettableValue.empty(type));
 	}
 
 	private Class<?> getPotentiallyConvertedSimpleNullType(Class<?> type) {
@@ -617,6 +644,108 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 		return source.getClass().isArray() ? CollectionUtils.arrayToList(source) : Collections.singleton(source);
 	}
 
+	// ----------------------------------
+	// Large object streaming
+	// ----------------------------------
+
+	/**
+	 * Check whether {@code type} represents a streamed large object, i.e. a {@link Flux} or {@link Publisher} of
+	 * {@link ByteBuffer} or {@link DataBuffer} (mapped to {@link Blob}) or of {@link CharSequence} or {@link String}
+	 * (mapped to {@link Clob}).
+	 */
+	private static boolean isLobStream(TypeInformation<?> type) {
+
+		if (!type.getType().isAssignableFrom(Flux.class)) {
+			return false;
+		}
+
+		List<TypeInformation<?>> typeArguments = type.getTypeArguments();
+
+		if (typeArguments.size() != 1) {
+			return false;
+		}
+
+		Class<?> elementType = typeArguments.get(0).getType();
+
+		return ByteBuffer.class.equals(elementType) || DataBuffer.class.equals(elementType)
+				|| CharSequence.class.equals(elementType) || String.class.equals(elementType);
+	}
+
+	private static Class<?> getLobType(TypeInformation<?> type) {
+		return isCharacterStream(type) ? Clob.class : Blob.class;
+	}
+
+	private static boolean isCharacterStream(TypeInformation<?> type) {
+
+		Class<?> elementType = type.getTypeArguments().get(0).getType();
+		return CharSequence.class.equals(elementType) || String.class.equals(elementType);
+	}
+
+	/**
+	 * Read a {@link Blob} or {@link Clob} column as stream of its contents. The content is consumed lazily when the
+	 * returned {@link Flux} is subscribed. The large object is discarded if consumption fails or the subscription is
+	 * cancelled before the content was consumed entirely.
+	 */
+	@Nullable
+	private static Flux<?> readLobStream(Row row, String column, TypeInformation<?> type) {
+
+		Class<?> elementType = type.getTypeArguments().get(0).getType();
+
+		if (isCharacterStream(type)) {
+
+			Clob clob = row.get(column, Clob.class);
+
+			if (clob == null) {
+				return null;
+			}
+
+			Flux<CharSequence> stream = Flux.usingWhen(Mono.just(clob), Clob::stream, it -> Mono.empty(),
+					(it, e) -> it.discard(), Clob::discard);
+			return String.class.equals(elementType) ? stream.map(CharSequence::toString) : stream;
+		}
+
+		Blob blob = row.get(column, Blob.class);
+
+		if (blob == null) {
+			return null;
+		}
+
+		Flux<ByteBuffer> stream = Flux.usingWhen(Mono.just(blob), Blob::stream, it -> Mono.empty(),
+				(it, e) -> it.discard(), Blob::discard);
+		return DataBuffer.class.equals(elementType) ? stream.map(DATA_BUFFER_FACTORY::wrap) : stream;
+	}
+
+	/**
+	 * Wrap a {@link Publisher} of large object content into a {@link Blob} or {@link Clob} for binding.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object writeLobStream(Publisher<?> value, TypeInformation<?> type) {
+
+		if (isCharacterStream(type)) {
+			return Clob.from((Publisher<? extends CharSequence>) value);
+		}
+
+		if (DataBuffer.class.equals(type.getTypeArguments().get(0).getType())) {
+			return Blob.from(Flux.from((Publisher<DataBuffer>) value).map(MappingR2dbcConverter::toByteBuffer));
+		}
+
+		return Blob.from((Publisher<ByteBuffer>) value);
+	}
+
+	private static ByteBuffer toByteBuffer(DataBuffer dataBuffer) {
+
+		try {
+
+			ByteBuffer buffer = ByteBuffer.allocate(dataBuffer.readableByteCount());
+			buffer.put(dataBuffer.asByteBuffer());
+			buffer.flip();
+
+			return buffer;
+		} finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
 	private static class RowParameterValueProvider implements ParameterValueProvider<RelationalPersistentProperty> {
 
 		private final Row resultSet;
@@ -640,6 +769,7 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 		 */
 		@Override
 		@Nullable
+		@SuppressWarnings("unchecked")
 		public <T> T getParameterValue(Parameter<T, RelationalPersistentProperty> parameter) {
 
 			RelationalPersistentProperty property = this.entity.getRequiredPersistentProperty(parameter.getName());
@@ -653,6 +783,10 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 					return null;
 				}
 
+				if (isLobStream(property.getTypeInformation())) {
+					return (T) readLobStream(this.resultSet, column, property.getTypeInformation());
+				}
+
 				Object value = this.resultSet.get(column);
 
 				if (value == null) {
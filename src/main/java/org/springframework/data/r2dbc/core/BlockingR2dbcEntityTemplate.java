@@ -0,0 +1,290 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.Assert;
+
+/**
+ * Blocking facade over {@link R2dbcEntityOperations} for imperative code. Operations block the calling thread until
+ * the underlying reactive operation completes and return values and {@link Stream streams} instead of {@link Mono}
+ * and {@link reactor.core.publisher.Flux}. Mapping, caching and connection handling are those of the
+ * {@link R2dbcEntityOperations} this facade is created for.
+ * <p>
+ * This facade is intended for threads that may block, such as virtual threads or threads of a worker pool. It must
+ * not be used on event loop threads. Streams returned by {@code select(…)} are backed by a bounded prefetch buffer and
+ * should be {@link Stream#close() closed} if they are not consumed entirely to release the underlying connection.
+ * <p>
+ * Reactive transactions are bound to the subscriber context and not to threads. Use
+ * {@link #inTransaction(TransactionalOperator, Function)} to run blocking operations within a transaction managed by
+ * {@link org.springframework.data.r2dbc.connectionfactory.R2dbcTransactionManager}.
+ *
+ * @since 1.2
+ */
+public class BlockingR2dbcEntityTemplate {
+
+	private static final int DEFAULT_PREFETCH = 256;
+
+	private final R2dbcEntityOperations delegate;
+
+	private final Scheduler scheduler;
+
+	private final int prefetch;
+
+	private final Context context;
+
+	/**
+	 * Create a new {@link BlockingR2dbcEntityTemplate} given {@link R2dbcEntityOperations}. Transactional callbacks
+	 * are run on {@link Schedulers#boundedElastic()} and streams prefetch up to {@code 256} elements.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public BlockingR2dbcEntityTemplate(R2dbcEntityOperations delegate) {
+		this(delegate, Schedulers.boundedElastic(), DEFAULT_PREFETCH);
+	}
+
+	/**
+	 * Create a new {@link BlockingR2dbcEntityTemplate} given {@link R2dbcEntityOperations}, a {@link Scheduler} to run
+	 * transactional callbacks on and the number of elements to prefetch for streams.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param scheduler scheduler to run transactional callbacks on, for example a scheduler backed by virtual threads.
+	 *          Must not be {@literal null}.
+	 * @param prefetch number of elements to prefetch for streams, must be greater than zero.
+	 */
+	public BlockingR2dbcEntityTemplate(R2dbcEntityOperations delegate, Scheduler scheduler, int prefetch) {
+		this(delegate, scheduler, prefetch, Context.empty());
+	}
+
+	private BlockingR2dbcEntityTemplate(R2dbcEntityOperations delegate, Scheduler scheduler, int prefetch,
+			Context context) {
+
+		Assert.notNull(delegate, "R2dbcEntityOperations must not be null!");
+		Assert.notNull(scheduler, "Scheduler must not be null!");
+		Assert.isTrue(prefetch > 0, "Prefetch must be greater than zero!");
+
+		this.delegate = delegate;
+		this.scheduler = scheduler;
+		this.prefetch = prefetch;
+		this.context = context;
+	}
+
+	/**
+	 * Return the underlying reactive {@link R2dbcEntityOperations}.
+	 *
+	 * @return the underlying reactive {@link R2dbcEntityOperations}.
+	 */
+	public R2dbcEntityOperations getReactiveOperations() {
+		return this.delegate;
+	}
+
+	/**
+	 * Returns the number of rows for the given entity class applying {@link Query}. This overridden method allows users
+	 * to further refine the selection Query using a {@link Query} predicate to determine how many entities to count.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the number of matching rows.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @see R2dbcEntityOperations#count(Query, Class)
+	 */
+	public long count(Query query, Class<?> entityClass) throws DataAccessException {
+		return blockRequired(this.delegate.count(query, entityClass));
+	}
+
+	/**
+	 * Determine whether the result for {@code entityClass} {@link Query} yields at least one row.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return {@literal true} if the object exists.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @see R2dbcEntityOperations#exists(Query, Class)
+	 */
+	public boolean exists(Query query, Class<?> entityClass) throws DataAccessException {
+		return blockRequired(this.delegate.exists(query, entityClass));
+	}
+
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream} of entities. The stream
+	 * requests rows in batches of the configured prefetch size.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the result stream.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @see R2dbcEntityOperations#select(Query, Class)
+	 */
+	public <T> Stream<T> select(Query query, Class<T> entityClass) throws DataAccessException {
+		return this.delegate.select(query, entityClass).subscriberContext(this.context).toStream(this.prefetch);
+	}
+
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting item to an entity ensuring exactly one result.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the result object or {@literal null} if no row matches.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @see R2dbcEntityOperations#selectOne(Query, Class)
+	 */
+	@Nullable
+	public <T> T selectOne(Query query, Class<T> entityClass) throws DataAccessException {
+		return block(this.delegate.selectOne(query, entityClass));
+	}
+
+	/**
+	 * Update the queried entities and return the number of affected rows.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the number of affected rows.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @see R2dbcEntityOperations#update(Query, Update, Class)
+	 */
+	public int update(Query query, Update update, Class<?> entityClass) throws DataAccessException {
+		return blockRequired(this.delegate.update(query, update, entityClass));
+	}
+
+	/**
+	 * Remove entities (rows)/columns from the table by {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the number of affected rows.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @see R2dbcEntityOperations#delete(Query, Class)
+	 */
+	public int delete(Query query, Class<?> entityClass) throws DataAccessException {
+		return blockRequired(this.delegate.delete(query, entityClass));
+	}
+
+	/**
+	 * Insert the given entity and return the saved entity.
+	 *
+	 * @param entity the entity to insert, must not be {@literal null}.
+	 * @return the saved entity.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @see R2dbcEntityOperations#insert(Object)
+	 */
+	public <T> T insert(T entity) throws DataAccessException {
+		return blockRequired(this.delegate.insert(entity));
+	}
+
+	/**
+	 * Update the given entity and return the saved entity.
+	 *
+	 * @param entity the entity to update, must not be {@literal null}.
+	 * @return the saved entity.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @see R2dbcEntityOperations#update(Object)
+	 */
+	public <T> T update(T entity) throws DataAccessException {
+		return blockRequired(this.delegate.update(entity));
+	}
+
+	/**
+	 * Delete the given entity and return the deleted entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the deleted entity.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @see R2dbcEntityOperations#delete(Object)
+	 */
+	public <T> T delete(T entity) throws DataAccessException {
+		return blockRequired(this.delegate.delete(entity));
+	}
+
+	/**
+	 * Update the given entities and return the saved entities.
+	 *
+	 * @param entities the entities to update, must not be {@literal null}.
+	 * @return the saved entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @see R2dbcEntityOperations#updateAll(Collection)
+	 */
+	public <T> List<T> updateAll(Collection<T> entities) throws DataAccessException {
+		return blockRequired(this.delegate.updateAll(entities).collectList());
+	}
+
+	/**
+	 * Delete the given entities by their identifiers.
+	 *
+	 * @param entities the entities to delete, must not be {@literal null}.
+	 * @return the number of affected rows.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @see R2dbcEntityOperations#deleteAll(Collection)
+	 */
+	public int deleteAll(Collection<?> entities) throws DataAccessException {
+		return blockRequired(this.delegate.deleteAll(entities));
+	}
+
+	/**
+	 * Run {@code action} within a transaction managed by {@link TransactionalOperator}. The action is called on the
+	 * configured {@link Scheduler} with a {@link BlockingR2dbcEntityTemplate} that participates in the transaction. The
+	 * transaction is rolled back if the action throws an exception and committed otherwise.
+	 *
+	 * @param transactionalOperator must not be {@literal null}.
+	 * @param action the action to run, must not be {@literal null}.
+	 * @return the result of {@code action}, can be {@literal null}.
+	 */
+	@Nullable
+	public <T> T inTransaction(TransactionalOperator transactionalOperator,
+			Function<BlockingR2dbcEntityTemplate, T> action) {
+
+		Assert.notNull(transactionalOperator, "TransactionalOperator must not be null!");
+		Assert.notNull(action, "Action must not be null!");
+
+		return transactionalOperator.execute(status -> Mono.subscriberContext() //
+				.publishOn(this.scheduler) //
+				.flatMap(context -> Mono.justOrEmpty(
+						action.apply(new BlockingR2dbcEntityTemplate(this.delegate, this.scheduler, this.prefetch, context))))) //
+				.subscriberContext(this.context) //
+				.singleOrEmpty() //
+				.block();
+	}
+
+	@Nullable
+	private <T> T block(Mono<T> mono) {
+		return mono.subscriberContext(this.context).block();
+	}
+
+	private <T> T blockRequired(Mono<T> mono) {
+
+		T result = block(mono);
+
+		if (result == null) {
+			throw new IllegalStateException("Operation completed without a result");
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.r2dbc.connectionfactory.ConnectionFactoryUtils;
+
+/**
+ * {@link FetchSpec} decorator that obtains rows through a {@link QueryResultCache}. Results are materialized as
+ * {@link List} before they are cached. Queries issued within an active transaction bypass the cache.
+ *
+ * @since 1.2
+ */
+class CachingFetchSpec<T> implements FetchSpec<T> {
+
+	private final QueryResultCache cache;
+	private final QueryResultCache.Key key;
+	private final Duration timeToLive;
+	private final String sql;
+	private final FetchSpec<T> delegate;
+
+	CachingFetchSpec(QueryResultCache cache, QueryResultCache.Key key, Duration timeToLive, String sql,
+			FetchSpec<T> delegate) {
+		this.cache = cache;
+		this.key = key;
+		this.timeToLive = timeToLive;
+		this.sql = sql;
+		this.delegate = delegate;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.FetchSpec#one()
+	 */
+	@Override
+	public Mono<T> one() {
+
+		return ConnectionFactoryUtils.isActualTransactionActive().flatMap(transactional -> {
+
+			if (transactional) {
+				return this.delegate.one();
+			}
+
+			return getResult().flatMap(it -> {
+
+				if (it.isEmpty()) {
+					return Mono.empty();
+				}
+
+				if (it.size() > 1) {
+					return Mono.error(new IncorrectResultSizeDataAccessException(
+							String.format("Query [%s] returned non unique result.", this.sql), 1));
+				}
+
+				return Mono.just(it.get(0));
+			});
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.FetchSpec#first()
+	 */
+	@Override
+	public Mono<T> first() {
+
+		return ConnectionFactoryUtils.isActualTransactionActive().flatMap(transactional -> {
+
+			if (transactional) {
+				return this.delegate.first();
+			}
+
+			return getResult().flatMap(it -> it.isEmpty() ? Mono.empty() : Mono.just(it.get(0)));
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.FetchSpec#all()
+	 */
+	@Override
+	public Flux<T> all() {
+
+		return ConnectionFactoryUtils.isActualTransactionActive().flatMapMany(transactional -> {
+
+			if (transactional) {
+				return this.delegate.all();
+			}
+
+			return getResult().flatMapIterable(it -> it);
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.FetchSpec#rowsUpdated()
+	 */
+	@Override
+	public Mono<Integer> rowsUpdated() {
+		return this.delegate.rowsUpdated();
+	}
+
+	private Mono<List<T>> getResult() {
+		return this.cache.getOrLoad(this.key, this.timeToLive, () -> this.delegate.all().collectList());
+	}
+}
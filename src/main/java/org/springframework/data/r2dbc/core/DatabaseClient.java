@@ -19,9 +19,12 @@ import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -80,6 +83,25 @@ public interface DatabaseClient {
 	 */
 	GenericExecuteSpec execute(Supplier<String> sqlSupplier);
 
+	/**
+	 * Execute {@link PreparedOperation operations} that render the same SQL as a single {@link Statement} using a binding
+	 * set per operation. Emits the number of affected rows for each {@link io.r2dbc.spi.Result} reported by the driver.
+	 * Drivers typically report a {@link io.r2dbc.spi.Result} per binding set but may also report a single
+	 * {@link io.r2dbc.spi.Result} for all binding sets.
+	 * <p>
+	 * The default implementation executes each operation as individual statement.
+	 *
+	 * @param operations must not be {@literal null} or empty. All operations must render the same SQL.
+	 * @return the number of affected rows per {@link io.r2dbc.spi.Result}.
+	 * @since 1.2
+	 */
+	default Flux<Integer> executeBatch(List<? extends PreparedOperation<?>> operations) {
+
+		Assert.notEmpty(operations, "Operations must not be empty!");
+
+		return Flux.fromIterable(operations).concatMap(it -> execute(it).fetch().rowsUpdated());
+	}
+
 	/**
 	 * Prepare an SQL SELECT call.
 	 */
@@ -182,6 +204,17 @@ public interface DatabaseClient {
 		 */
 		Builder projectionFactory(ProjectionFactory factory);
 
+		/**
+		 * Configures the {@link QueryResultCache} used by {@link GenericExecuteSpec#cache(Duration)} and
+		 * {@link TypedExecuteSpec#cache(Duration)}. Defaults to a {@link QueryResultCache} holding up to
+		 * {@link QueryResultCache#DEFAULT_MAXIMUM_SIZE} results.
+		 *
+		 * @param queryResultCache must not be {@literal null}.
+		 * @return {@code this} {@link Builder}.
+		 * @since 1.2
+		 */
+		Builder queryResultCache(QueryResultCache queryResultCache);
+
 		/**
 		 * Configures a {@link Consumer} to configure this builder.
 		 *
@@ -210,6 +243,31 @@ public interface DatabaseClient {
 		 */
 		<R> TypedExecuteSpec<R> as(Class<R> resultType);
 
+		/**
+		 * Cache materialized results for {@code timeToLive} in the {@link QueryResultCache} of this client. Results are
+		 * keyed by SQL, bindings and the mapping function so that mapping functions should be reused across calls to
+		 * benefit from caching. Concurrent identical queries share a single execution. Queries executed within an active
+		 * transaction bypass the cache. {@link FetchSpec#rowsUpdated()} is never cached.
+		 *
+		 * @param timeToLive must not be {@literal null} and must be positive.
+		 * @return a new {@link GenericExecuteSpec} caching its results.
+		 * @since 1.2
+		 */
+		GenericExecuteSpec cache(Duration timeToLive);
+
+		/**
+		 * Fail with {@link org.springframework.dao.QueryTimeoutException} if the query does not emit its first result
+		 * within {@code timeout}. Consumption of emitted results is not subject to the timeout. On timeout, the
+		 * subscription is cancelled and the connection is released. The statement is not cancelled on the server unless
+		 * the driver does so on cancellation. Results served from the {@link #cache(Duration) cache} are not subject to
+		 * the timeout.
+		 *
+		 * @param timeout must not be {@literal null} and must be positive.
+		 * @return a new {@link GenericExecuteSpec} applying the timeout.
+		 * @since 1.2
+		 */
+		GenericExecuteSpec timeout(Duration timeout);
+
 		/**
 		 * Configure a result mapping {@link java.util.function.Function function}.
 		 *
@@ -255,6 +313,31 @@ public interface DatabaseClient {
 		 */
 		<R> TypedExecuteSpec<R> as(Class<R> resultType);
 
+		/**
+		 * Cache materialized results for {@code timeToLive} in the {@link QueryResultCache} of this client. Results are
+		 * keyed by SQL, bindings and the mapping function so that mapping functions should be reused across calls to
+		 * benefit from caching. Concurrent identical queries share a single execution. Queries executed within an active
+		 * transaction bypass the cache. {@link FetchSpec#rowsUpdated()} is never cached.
+		 *
+		 * @param timeToLive must not be {@literal null} and must be positive.
+		 * @return a new {@link TypedExecuteSpec} caching its results.
+		 * @since 1.2
+		 */
+		TypedExecuteSpec<T> cache(Duration timeToLive);
+
+		/**
+		 * Fail with {@link org.springframework.dao.QueryTimeoutException} if the query does not emit its first result
+		 * within {@code timeout}. Consumption of emitted results is not subject to the timeout. On timeout, the
+		 * subscription is cancelled and the connection is released. The statement is not cancelled on the server unless
+		 * the driver does so on cancellation. Results served from the {@link #cache(Duration) cache} are not subject to
+		 * the timeout.
+		 *
+		 * @param timeout must not be {@literal null} and must be positive.
+		 * @return a new {@link TypedExecuteSpec} applying the timeout.
+		 * @since 1.2
+		 */
+		TypedExecuteSpec<T> timeout(Duration timeout);
+
 		/**
 		 * Configure a result mapping {@link java.util.function.Function function}.
 		 *
@@ -29,6 +29,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -90,9 +91,13 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 	private final ProjectionFactory projectionFactory;
 
+	private final QueryResultCache queryResultCache;
+
+	private final ProjectedColumns projectedColumns;
+
 	DefaultDatabaseClient(ConnectionFactory connector, R2dbcExceptionTranslator exceptionTranslator,
 			ExecuteFunction executeFunction, ReactiveDataAccessStrategy dataAccessStrategy, boolean namedParameters,
-			ProjectionFactory projectionFactory, DefaultDatabaseClientBuilder builder) {
+			ProjectionFactory projectionFactory, QueryResultCache queryResultCache, DefaultDatabaseClientBuilder builder) {
 
 		this.connector = connector;
 		this.exceptionTranslator = exceptionTranslator;
@@ -100,6 +105,8 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		this.dataAccessStrategy = dataAccessStrategy;
 		this.namedParameters = namedParameters;
 		this.projectionFactory = projectionFactory;
+		this.queryResultCache = queryResultCache;
+		this.projectedColumns = new ProjectedColumns(projectionFactory);
 		this.builder = builder;
 	}
 
@@ -144,6 +151,44 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		return createGenericExecuteSpec(sqlSupplier);
 	}
 
+	@Override
+	public Flux<Integer> executeBatch(List<? extends PreparedOperation<?>> operations) {
+
+		Assert.notEmpty(operations, "Operations must not be empty!");
+
+		String sql = getRequiredSql(operations.get(0));
+
+		for (PreparedOperation<?> operation : operations) {
+			Assert.isTrue(sql.equals(operation.toQuery()), "All operations must render the same SQL!");
+		}
+
+		Function<Connection, Statement> statementFactory = it -> {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing SQL statement [" + sql + "] with " + operations.size() + " binding sets");
+			}
+
+			Statement statement = it.createStatement(sql);
+			BindTarget bindTarget = new StatementWrapper(statement);
+
+			for (int i = 0; i < operations.size(); i++) {
+
+				if (i != 0) {
+					statement.add();
+				}
+
+				operations.get(i).bindTo(bindTarget);
+			}
+
+			return statement;
+		};
+
+		Function<Connection, Flux<Result>> resultFunction = toFunction(sql, StatementFilterFunctions.empty(),
+				statementFactory);
+
+		return inConnectionMany(it -> resultFunction.apply(it).concatMap(Result::getRowsUpdated));
+	}
+
 	/**
 	 * Execute a callback {@link Function} within a {@link Connection} scope. The function is responsible for creating a
 	 * {@link Mono}. The connection is released after the {@link Mono} terminates (or the subscription is cancelled).
@@ -325,6 +370,8 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		final Map<String, SettableValue> byName;
 		final Supplier<String> sqlSupplier;
 		final StatementFilterFunction filterFunction;
+		@Nullable Duration cacheTimeToLive;
+		@Nullable Duration timeout;
 
 		ExecuteSpecSupport(Supplier<String> sqlSupplier) {
 
@@ -344,6 +391,19 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		}
 
 		<T> FetchSpec<T> exchange(Supplier<String> sqlSupplier, BiFunction<Row, RowMetadata, T> mappingFunction) {
+			return exchange(sqlSupplier, mappingFunction, mappingFunction);
+		}
+
+		/**
+		 * Create a {@link FetchSpec} for the given SQL and mapping function.
+		 *
+		 * @param sqlSupplier the SQL supplier.
+		 * @param mappingFunction the mapping function.
+		 * @param mappingKey object identifying the mapping, used as part of the cache key when caching is enabled.
+		 * @return the {@link FetchSpec}.
+		 */
+		<T> FetchSpec<T> exchange(Supplier<String> sqlSupplier, BiFunction<Row, RowMetadata, T> mappingFunction,
+				Object mappingKey) {
 
 			String sql = getRequiredSql(sqlSupplier);
 
@@ -407,11 +467,57 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Function<Connection, Flux<Result>> resultFunction = toFunction(sql, filterFunction, statementFactory);
 
-			return new DefaultSqlResult<>(DefaultDatabaseClient.this, //
+			FetchSpec<T> fetchSpec = new DefaultSqlResult<>(DefaultDatabaseClient.this, //
 					sql, //
 					resultFunction, //
 					it -> sumRowsUpdated(resultFunction, it), //
 					mappingFunction);
+
+			if (this.timeout != null) {
+				fetchSpec = new TimeoutFetchSpec<>(this.timeout, sql, fetchSpec);
+			}
+
+			if (this.cacheTimeToLive == null) {
+				return fetchSpec;
+			}
+
+			QueryResultCache.Key key = new QueryResultCache.Key(sql, getBindings(sqlSupplier), mappingKey);
+			return new CachingFetchSpec<>(queryResultCache, key, this.cacheTimeToLive, sql, fetchSpec);
+		}
+
+		private Object getBindings(Supplier<String> sqlSupplier) {
+
+			if (sqlSupplier instanceof PreparedOperation<?>) {
+
+				RecordingBindTarget bindTarget = new RecordingBindTarget();
+				((PreparedOperation<?>) sqlSupplier).bindTo(bindTarget);
+
+				return bindTarget.bindings;
+			}
+
+			return Arrays.asList(this.byIndex, this.byName);
+		}
+
+		ExecuteSpecSupport cache(Duration timeToLive) {
+
+			Assert.notNull(timeToLive, "Time to live must not be null!");
+			Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive!");
+
+			ExecuteSpecSupport spec = createInstance(this.byIndex, this.byName, this.sqlSupplier, this.filterFunction);
+			spec.cacheTimeToLive = timeToLive;
+			spec.timeout = this.timeout;
+			return spec;
+		}
+
+		ExecuteSpecSupport timeout(Duration timeout) {
+
+			Assert.notNull(timeout, "Timeout must not be null!");
+			Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "Timeout must be positive!");
+
+			ExecuteSpecSupport spec = createInstance(this.byIndex, this.byName, this.sqlSupplier, this.filterFunction);
+			spec.cacheTimeToLive = this.cacheTimeToLive;
+			spec.timeout = timeout;
+			return spec;
 		}
 
 		public ExecuteSpecSupport bind(int index, Object value) {
@@ -427,7 +533,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 				byIndex.put(index, SettableValue.fromOrEmpty(value, value.getClass()));
 			}
 
-			return createInstance(byIndex, this.byName, this.sqlSupplier, this.filterFunction);
+			return copy(byIndex, this.byName, this.sqlSupplier, this.filterFunction);
 		}
 
 		public ExecuteSpecSupport bindNull(int index, Class<?> type) {
@@ -437,7 +543,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			Map<Integer, SettableValue> byIndex = new LinkedHashMap<>(this.byIndex);
 			byIndex.put(index, SettableValue.empty(type));
 
-			return createInstance(byIndex, this.byName, this.sqlSupplier, this.filterFunction);
+			return copy(byIndex, this.byName, this.sqlSupplier, this.filterFunction);
 		}
 
 		public ExecuteSpecSupport bind(String name, Object value) {
@@ -456,7 +562,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 				byName.put(name, SettableValue.fromOrEmpty(value, value.getClass()));
 			}
 
-			return createInstance(this.byIndex, byName, this.sqlSupplier, this.filterFunction);
+			return copy(this.byIndex, byName, this.sqlSupplier, this.filterFunction);
 		}
 
 		public ExecuteSpecSupport bindNull(String name, Class<?> type) {
@@ -467,14 +573,14 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			Map<String, SettableValue> byName = new LinkedHashMap<>(this.byName);
 			byName.put(name, SettableValue.empty(type));
 
-			return createInstance(this.byIndex, byName, this.sqlSupplier, this.filterFunction);
+			return copy(this.byIndex, byName, this.sqlSupplier, this.filterFunction);
 		}
 
 		public ExecuteSpecSupport filter(StatementFilterFunction filter) {
 
 			Assert.notNull(filter, "Statement FilterFunction must not be null!");
 
-			return createInstance(this.byIndex, byName, this.sqlSupplier, this.filterFunction.andThen(filter));
+			return copy(this.byIndex, byName, this.sqlSupplier, this.filterFunction.andThen(filter));
 		}
 
 		private void assertNotPreparedOperation() {
@@ -483,6 +589,15 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 			}
 		}
 
+		private ExecuteSpecSupport copy(Map<Integer, SettableValue> byIndex, Map<String, SettableValue> byName,
+				Supplier<String> sqlSupplier, StatementFilterFunction filterFunction) {
+
+			ExecuteSpecSupport spec = createInstance(byIndex, byName, sqlSupplier, filterFunction);
+			spec.cacheTimeToLive = this.cacheTimeToLive;
+			spec.timeout = this.timeout;
+			return spec;
+		}
+
 		protected ExecuteSpecSupport createInstance(Map<Integer, SettableValue> byIndex, Map<String, SettableValue> byName,
 				Supplier<String> sqlSupplier, StatementFilterFunction filterFunction) {
 			return new ExecuteSpecSupport(byIndex, byName, sqlSupplier, filterFunction);
@@ -508,7 +623,21 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(resultType, "Result type must not be null!");
 
-			return createTypedExecuteSpec(this.byIndex, this.byName, this.sqlSupplier, this.filterFunction, resultType);
+			DefaultTypedExecuteSpec<R> spec = createTypedExecuteSpec(this.byIndex, this.byName, this.sqlSupplier,
+					this.filterFunction, resultType);
+			spec.cacheTimeToLive = this.cacheTimeToLive;
+			spec.timeout = this.timeout;
+			return spec;
+		}
+
+		@Override
+		public DefaultGenericExecuteSpec cache(Duration timeToLive) {
+			return (DefaultGenericExecuteSpec) super.cache(timeToLive);
+		}
+
+		@Override
+		public DefaultGenericExecuteSpec timeout(Duration timeout) {
+			return (DefaultGenericExecuteSpec) super.timeout(timeout);
 		}
 
 		@Override
@@ -516,7 +645,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(mappingFunction, "Mapping function must not be null!");
 
-			return exchange(this.sqlSupplier, (row, rowMetadata) -> mappingFunction.apply(row));
+			return exchange(this.sqlSupplier, (row, rowMetadata) -> mappingFunction.apply(row), mappingFunction);
 		}
 
 		@Override
@@ -598,7 +727,21 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(resultType, "Result type must not be null!");
 
-			return createTypedExecuteSpec(this.byIndex, this.byName, this.sqlSupplier, this.filterFunction, resultType);
+			DefaultTypedExecuteSpec<R> spec = createTypedExecuteSpec(this.byIndex, this.byName, this.sqlSupplier,
+					this.filterFunction, resultType);
+			spec.cacheTimeToLive = this.cacheTimeToLive;
+			spec.timeout = this.timeout;
+			return spec;
+		}
+
+		@Override
+		public DefaultTypedExecuteSpec<T> cache(Duration timeToLive) {
+			return (DefaultTypedExecuteSpec<T>) super.cache(timeToLive);
+		}
+
+		@Override
+		public DefaultTypedExecuteSpec<T> timeout(Duration timeout) {
+			return (DefaultTypedExecuteSpec<T>) super.timeout(timeout);
 		}
 
 		@Override
@@ -606,7 +749,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 			Assert.notNull(mappingFunction, "Mapping function must not be null!");
 
-			return exchange(this.sqlSupplier, (row, rowMetadata) -> mappingFunction.apply(row));
+			return exchange(this.sqlSupplier, (row, rowMetadata) -> mappingFunction.apply(row), mappingFunction);
 		}
 
 		@Override
@@ -619,7 +762,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 
 		@Override
 		public FetchSpec<T> fetch() {
-			return exchange(this.sqlSupplier, this.mappingFunction);
+			return exchange(this.sqlSupplier, this.mappingFunction, this.typeToRead);
 		}
 
 		@Override
@@ -890,7 +1033,7 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 				rowMapper = dataAccessStrategy.getRowMapper(resultType);
 			}
 
-			return exchange(rowMapper);
+			return exchange(rowMapper, resultType);
 		}
 
 		@Override
@@ -935,12 +1078,22 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		}
 
 		private <R> FetchSpec<R> exchange(BiFunction<Row, RowMetadata, R> mappingFunction) {
+			return exchange(mappingFunction, this.typeToRead);
+		}
+
+		private <R> FetchSpec<R> exchange(BiFunction<Row, RowMetadata, R> mappingFunction, Class<?> resultType) {
 
 			List<SqlIdentifier> columns;
 			StatementMapper mapper = dataAccessStrategy.getStatementMapper().forType(this.typeToRead);
 
 			if (this.projectedFields.isEmpty()) {
-				columns = dataAccessStrategy.getAllColumns(this.typeToRead);
+
+				columns = projectedColumns.getColumns(dataAccessStrategy.getConverter().getMappingContext(),
+						this.typeToRead, resultType);
+
+				if (columns.isEmpty()) {
+					columns = dataAccessStrategy.getAllColumns(this.typeToRead);
+				}
 			} else {
 				columns = this.projectedFields;
 			}
@@ -1691,4 +1844,32 @@ class DefaultDatabaseClient implements DatabaseClient, ConnectionAccessor {
 		}
 	}
 
+	/**
+	 * {@link BindTarget} recording bindings to compute cache keys for {@link PreparedOperation}s.
+	 */
+	static class RecordingBindTarget implements BindTarget {
+
+		final Map<Object, Object> bindings = new LinkedHashMap<>();
+
+		@Override
+		public void bind(String identifier, Object value) {
+			this.bindings.put(identifier, value);
+		}
+
+		@Override
+		public void bind(int index, Object value) {
+			this.bindings.put(index, value);
+		}
+
+		@Override
+		public void bindNull(String identifier, Class<?> type) {
+			this.bindings.put(identifier, type);
+		}
+
+		@Override
+		public void bindNull(int index, Class<?> type) {
+			this.bindings.put(index, type);
+		}
+	}
+
 }
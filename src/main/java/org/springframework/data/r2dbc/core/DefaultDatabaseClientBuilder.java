@@ -49,6 +49,8 @@ class DefaultDatabaseClientBuilder implements DatabaseClient.Builder {
 
 	private ProjectionFactory projectionFactory;
 
+	private @Nullable QueryResultCache queryResultCache;
+
 	DefaultDatabaseClientBuilder() {}
 
 	DefaultDatabaseClientBuilder(DefaultDatabaseClientBuilder other) {
@@ -61,6 +63,7 @@ class DefaultDatabaseClientBuilder implements DatabaseClient.Builder {
 		this.accessStrategy = other.accessStrategy;
 		this.namedParameters = other.namedParameters;
 		this.projectionFactory = other.projectionFactory;
+		this.queryResultCache = other.queryResultCache;
 	}
 
 	/*
@@ -139,6 +142,19 @@ class DefaultDatabaseClientBuilder implements DatabaseClient.Builder {
 		return this;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.DatabaseClient.Builder#queryResultCache(QueryResultCache)
+	 */
+	@Override
+	public Builder queryResultCache(QueryResultCache queryResultCache) {
+
+		Assert.notNull(queryResultCache, "QueryResultCache must not be null!");
+
+		this.queryResultCache = queryResultCache;
+		return this;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.r2dbc.function.DatabaseClient.Builder#build()
@@ -160,8 +176,14 @@ class DefaultDatabaseClientBuilder implements DatabaseClient.Builder {
 			accessStrategy = new DefaultReactiveDataAccessStrategy(dialect);
 		}
 
+		QueryResultCache queryResultCache = this.queryResultCache;
+
+		if (queryResultCache == null) {
+			queryResultCache = new QueryResultCache();
+		}
+
 		return new DefaultDatabaseClient(this.connectionFactory, exceptionTranslator, executeFunction, accessStrategy,
-				namedParameters, projectionFactory, new DefaultDatabaseClientBuilder(this));
+				namedParameters, projectionFactory, queryResultCache, new DefaultDatabaseClientBuilder(this));
 	}
 
 	/*
@@ -81,6 +81,37 @@ class DefaultStatementMapper implements StatementMapper {
 		return getMappedObject(selectSpec, null);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.core.StatementMapper#getMappedExists(org.springframework.data.r2dbc.core.StatementMapper.SelectSpec)
+	 */
+	@Override
+	public PreparedOperation<?> getMappedExists(SelectSpec selectSpec) {
+		return getMappedExists(selectSpec, null);
+	}
+
+	private PreparedOperation<Select> getMappedExists(SelectSpec selectSpec,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		Table table = selectSpec.getTable();
+
+		BindMarkers bindMarkers = this.dialect.getBindMarkersFactory().create();
+		Bindings bindings = Bindings.empty();
+		CriteriaDefinition criteria = selectSpec.getCriteria();
+		Condition condition = null;
+
+		if (criteria != null && !criteria.isEmpty()) {
+
+			BoundCondition mappedObject = this.updateMapper.getMappedObject(bindMarkers, criteria, table, entity);
+
+			bindings = mappedObject.getBindings();
+			condition = mappedObject.getCondition();
+		}
+
+		Select select = this.dialect.getExistsQuery(table, condition);
+		return new DefaultPreparedOperation<>(select, this.renderContext, bindings);
+	}
+
 	private PreparedOperation<Select> getMappedObject(SelectSpec selectSpec,
 			@Nullable RelationalPersistentEntity<?> entity) {
 
@@ -239,6 +270,15 @@ class DefaultStatementMapper implements StatementMapper {
 		return renderContext;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.core.StatementMapper#getMaxBindParameters()
+	 */
+	@Override
+	public int getMaxBindParameters() {
+		return this.dialect.getMaxBindParameters();
+	}
+
 	private PreparedOperation<Delete> getMappedObject(DeleteSpec deleteSpec,
 			@Nullable RelationalPersistentEntity<?> entity) {
 
@@ -364,6 +404,15 @@ class DefaultStatementMapper implements StatementMapper {
 			return DefaultStatementMapper.this.getMappedObject(selectSpec, this.entity);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.r2dbc.core.StatementMapper#getMappedExists(org.springframework.data.r2dbc.core.StatementMapper.SelectSpec)
+		 */
+		@Override
+		public PreparedOperation<?> getMappedExists(SelectSpec selectSpec) {
+			return DefaultStatementMapper.this.getMappedExists(selectSpec, this.entity);
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.r2dbc.function.StatementMapper#getMappedObject(org.springframework.data.r2dbc.function.StatementMapper.InsertSpec)
@@ -399,5 +448,14 @@ class DefaultStatementMapper implements StatementMapper {
 		public RenderContext getRenderContext() {
 			return DefaultStatementMapper.this.getRenderContext();
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.r2dbc.core.StatementMapper#getMaxBindParameters()
+		 */
+		@Override
+		public int getMaxBindParameters() {
+			return DefaultStatementMapper.this.getMaxBindParameters();
+		}
 	}
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded, in-memory second-level cache for entities of a single type keyed by their identifier. Caches are registered
+ * with {@link R2dbcEntityTemplate#registerEntityCache(Class, EntityCache)} and consulted by
+ * {@link org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository} for lookups by id.
+ * <p>
+ * Entries are invalidated by the template on entity updates and deletes as well as on
+ * {@link org.springframework.data.relational.core.query.Query}-based updates and deletes of the cached entity type.
+ * Invalidation is repeated after completion of a surrounding transaction so that only committed state can be cached.
+ * Cached entities are shared between callers and should therefore not be mutated. Typically used for read-mostly
+ * reference data.
+ *
+ * @since 1.2
+ */
+public class EntityCache {
+
+	private final int maximumSize;
+
+	private final Duration timeToLive;
+
+	private final Clock clock;
+
+	private final Map<Object, Entry> entries;
+
+	private long generation;
+
+	/**
+	 * Create a new {@link EntityCache}.
+	 *
+	 * @param maximumSize maximum number of cached entities, must be greater than zero.
+	 * @param timeToLive time to live for cached entities. {@link Duration#ZERO} disables expiry.
+	 * @param evictionPolicy the {@link EvictionPolicy} to apply once {@code maximumSize} is exceeded.
+	 */
+	public EntityCache(int maximumSize, Duration timeToLive, EvictionPolicy evictionPolicy) {
+		this(maximumSize, timeToLive, evictionPolicy, Clock.systemUTC());
+	}
+
+	EntityCache(int maximumSize, Duration timeToLive, EvictionPolicy evictionPolicy, Clock clock) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+		Assert.notNull(timeToLive, "Time to live must not be null");
+		Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+		Assert.notNull(evictionPolicy, "EvictionPolicy must not be null");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+		this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, evictionPolicy == EvictionPolicy.LRU) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+				return size() > EntityCache.this.maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * Return the cached entity for {@code id} or {@literal null} if the entity is not cached or its entry is expired.
+	 *
+	 * @param id the identifier.
+	 * @return the cached entity or {@literal null}.
+	 */
+	@Nullable
+	public synchronized Object get(Object id) {
+
+		Entry entry = this.entries.get(id);
+
+		if (entry == null) {
+			return null;
+		}
+
+		if (entry.isExpired(this.clock.millis())) {
+			this.entries.remove(id);
+			return null;
+		}
+
+		return entry.value;
+	}
+
+	/**
+	 * Return the current generation of this cache. The generation changes with each invalidation and is used to detect
+	 * whether a value loaded from the database was possibly invalidated while it was loaded.
+	 *
+	 * @return the current generation.
+	 * @see #putIfCurrent(Object, Object, long)
+	 */
+	public synchronized long getGeneration() {
+		return this.generation;
+	}
+
+	/**
+	 * Cache {@code value} for {@code id} if no invalidation happened since {@code generation} was obtained.
+	 *
+	 * @param id the identifier.
+	 * @param value the entity.
+	 * @param generation the generation obtained through {@link #getGeneration()} before loading {@code value}.
+	 * @return {@literal true} if the value was cached.
+	 */
+	public synchronized boolean putIfCurrent(Object id, Object value, long generation) {
+
+		if (this.generation != generation) {
+			return false;
+		}
+
+		this.entries.put(id, new Entry(value, getExpiry()));
+		return true;
+	}
+
+	/**
+	 * Remove the entry for {@code id}.
+	 *
+	 * @param id the identifier.
+	 */
+	public synchronized void evict(Object id) {
+
+		this.generation++;
+		this.entries.remove(id);
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public synchronized void clear() {
+
+		this.generation++;
+		this.entries.clear();
+	}
+
+	/**
+	 * Return the number of cached entries, including expired ones that were not yet removed.
+	 *
+	 * @return the number of cached entries.
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Apply {@code invalidation} immediately and, if a transaction is active, once again after transaction completion
+	 * to discard values that were cached concurrently before the transaction committed or rolled back.
+	 *
+	 * @param invalidation the invalidation to apply.
+	 * @return {@link Mono} completing once the invalidation was applied and registered.
+	 */
+	static Mono<Void> invalidate(Runnable invalidation) {
+
+		return Mono.defer(() -> {
+
+			invalidation.run();
+
+			return TransactionSynchronizationManager.forCurrentTransaction() //
+					.filter(TransactionSynchronizationManager::isSynchronizationActive) //
+					.doOnNext(it -> it.registerSynchronization(new InvalidatingSynchronization(invalidation))) //
+					.onErrorResume(NoTransactionException.class, e -> Mono.empty()) //
+					.then();
+		});
+	}
+
+	private long getExpiry() {
+		return this.timeToLive.isZero() ? Long.MAX_VALUE : this.clock.millis() + this.timeToLive.toMillis();
+	}
+
+	/**
+	 * Eviction policy applied once a {@link EntityCache} exceeds its maximum size.
+	 */
+	public enum EvictionPolicy {
+
+		/**
+		 * Evict the least recently accessed entry.
+		 */
+		LRU,
+
+		/**
+		 * Evict the entry that was cached first.
+		 */
+		FIFO
+	}
+
+	private static class Entry {
+
+		final Object value;
+
+		final long expiry;
+
+		Entry(Object value, long expiry) {
+			this.value = value;
+			this.expiry = expiry;
+		}
+
+		boolean isExpired(long now) {
+			return now >= this.expiry;
+		}
+	}
+
+	/**
+	 * {@link TransactionSynchronization} repeating an invalidation after transaction completion.
+	 */
+	private static class InvalidatingSynchronization implements TransactionSynchronization {
+
+		private final Runnable invalidation;
+
+		InvalidatingSynchronization(Runnable invalidation) {
+			this.invalidation = invalidation;
+		}
+
+		@Override
+		public Mono<Void> afterCompletion(int status) {
+			return Mono.fromRunnable(this.invalidation);
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.SettableValue;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+
+/**
+ * Column values of entities as last read from or written to the database within a single transaction, keyed by entity
+ * type and identifier. Snapshots are used to determine the columns that changed since an entity was loaded. Each
+ * entity type retains a bounded number of snapshots and discards the least recently used ones first. Snapshots are
+ * bound as transactional resource to the current {@link TransactionSynchronizationManager} and discarded on
+ * transaction completion, regardless of whether the transaction was committed or rolled back.
+ *
+ * @since 1.2
+ */
+class EntitySnapshots {
+
+	/**
+	 * {@link EntitySnapshots} that do not retain snapshots, used outside of transactions.
+	 */
+	static final EntitySnapshots NONE = new EntitySnapshots(0);
+
+	private final Map<Class<?>, Map<Object, Map<SqlIdentifier, SettableValue>>> snapshots = new ConcurrentHashMap<>();
+
+	private final int capacity;
+
+	EntitySnapshots(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Obtain the {@link EntitySnapshots} bound to the current transaction for {@code resourceKey}. Binds new
+	 * {@link EntitySnapshots} if none are bound yet.
+	 *
+	 * @param resourceKey the resource key.
+	 * @param capacity maximum number of snapshots to retain per entity type.
+	 * @return the {@link EntitySnapshots} or an empty {@link Mono} if no transaction is active.
+	 */
+	static Mono<EntitySnapshots> current(Object resourceKey, int capacity) {
+
+		return TransactionSynchronizationManager.forCurrentTransaction() //
+				.filter(it -> it.isSynchronizationActive() && it.isActualTransactionActive()) //
+				.map(it -> {
+
+					EntitySnapshots snapshots = (EntitySnapshots) it.getResource(resourceKey);
+
+					if (snapshots == null) {
+
+						snapshots = new EntitySnapshots(capacity);
+						it.bindResource(resourceKey, snapshots);
+						it.registerSynchronization(new SnapshotSynchronization(resourceKey));
+					}
+
+					return snapshots;
+				}) //
+				.onErrorResume(NoTransactionException.class, e -> Mono.empty());
+	}
+
+	/**
+	 * @return {@literal true} if these {@link EntitySnapshots} retain snapshots.
+	 */
+	boolean isActive() {
+		return this.capacity > 0;
+	}
+
+	@Nullable
+	Map<SqlIdentifier, SettableValue> get(Class<?> type, Object id) {
+
+		Map<Object, Map<SqlIdentifier, SettableValue>> byId = this.snapshots.get(type);
+		return byId != null ? byId.get(id) : null;
+	}
+
+	void put(Class<?> type, Object id, OutboundRow row) {
+
+		if (!isActive()) {
+			return;
+		}
+
+		this.snapshots.computeIfAbsent(type, it -> createSnapshotMap()).put(id, new LinkedHashMap<>(row));
+	}
+
+	void clear(Class<?> type) {
+		this.snapshots.remove(type);
+	}
+
+	private Map<Object, Map<SqlIdentifier, SettableValue>> createSnapshotMap() {
+
+		return Collections.synchronizedMap(new LinkedHashMap<Object, Map<SqlIdentifier, SettableValue>>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Map<SqlIdentifier, SettableValue>> eldest) {
+				return size() > EntitySnapshots.this.capacity;
+			}
+		});
+	}
+
+	/**
+	 * {@link TransactionSynchronization} unbinding {@link EntitySnapshots} on transaction completion.
+	 */
+	private static class SnapshotSynchronization implements TransactionSynchronization {
+
+		private final Object resourceKey;
+
+		SnapshotSynchronization(Object resourceKey) {
+			this.resourceKey = resourceKey;
+		}
+
+		@Override
+		public Mono<Void> afterCompletion(int status) {
+
+			return TransactionSynchronizationManager.forCurrentTransaction() //
+					.doOnNext(it -> it.unbindResourceIfPossible(this.resourceKey)) //
+					.then();
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import java.beans.FeatureDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves the columns of an entity that are required to materialize a projection. Closed interface projections
+ * select the columns backing their input properties and DTO projections select the columns backing their persistent
+ * properties. Resolved columns are cached per entity and projection type.
+ *
+ * @since 1.2
+ */
+class ProjectedColumns {
+
+	private final ProjectionFactory projectionFactory;
+
+	private final Map<Class<?>, Map<Class<?>, List<SqlIdentifier>>> columns = new ConcurrentHashMap<>();
+
+	ProjectedColumns(ProjectionFactory projectionFactory) {
+
+		Assert.notNull(projectionFactory, "ProjectionFactory must not be null!");
+
+		this.projectionFactory = projectionFactory;
+	}
+
+	/**
+	 * Resolve the columns of {@code entityType} that are required to materialize {@code returnType}.
+	 *
+	 * @param mappingContext the mapping context.
+	 * @param entityType the entity type.
+	 * @param returnType the projection type.
+	 * @return the projected columns or an empty {@link List} if all columns are required.
+	 */
+	List<SqlIdentifier> getColumns(
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext,
+			Class<?> entityType, Class<?> returnType) {
+
+		if (returnType.isAssignableFrom(entityType)) {
+			return Collections.emptyList();
+		}
+
+		return this.columns.computeIfAbsent(entityType, it -> new ConcurrentHashMap<>()).computeIfAbsent(returnType,
+				it -> resolveColumns(mappingContext, entityType, it));
+	}
+
+	private List<SqlIdentifier> resolveColumns(
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext,
+			Class<?> entityType, Class<?> returnType) {
+
+		RelationalPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
+
+		if (entity == null) {
+			return Collections.emptyList();
+		}
+
+		List<String> properties = getProjectedProperties(mappingContext, returnType);
+		List<SqlIdentifier> columns = new ArrayList<>(properties.size());
+
+		for (String name : properties) {
+
+			RelationalPersistentProperty property = entity.getPersistentProperty(name);
+
+			// fall back to all columns if the projection cannot be expressed through simple entity properties
+			if (property == null || property.isEntity()) {
+				return Collections.emptyList();
+			}
+
+			columns.add(property.getColumnName());
+		}
+
+		return Collections.unmodifiableList(columns);
+	}
+
+	private List<String> getProjectedProperties(
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext,
+			Class<?> returnType) {
+
+		if (returnType.isInterface()) {
+
+			ProjectionInformation projectionInformation = this.projectionFactory.getProjectionInformation(returnType);
+
+			if (!projectionInformation.isClosed()) {
+				return Collections.emptyList();
+			}
+
+			return projectionInformation.getInputProperties().stream() //
+					.map(FeatureDescriptor::getName) //
+					.collect(Collectors.toList());
+		}
+
+		RelationalPersistentEntity<?> dto = mappingContext.getPersistentEntity(returnType);
+
+		if (dto == null) {
+			return Collections.emptyList();
+		}
+
+		List<String> properties = new ArrayList<>();
+
+		for (RelationalPersistentProperty property : dto) {
+			properties.add(property.getName());
+		}
+
+		return properties;
+	}
+}
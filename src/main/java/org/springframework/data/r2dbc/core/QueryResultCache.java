@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Bounded cache for materialized query results used by {@link DatabaseClient.GenericExecuteSpec#cache(Duration)} and
+ * {@link DatabaseClient.TypedExecuteSpec#cache(Duration)}. Results are keyed by SQL, bindings and the mapping function
+ * and evicted in least-recently-used order once the maximum size is exceeded.
+ * <p>
+ * Concurrent requests for the same key share a single in-flight query. Failed queries are not retained.
+ *
+ * @since 1.2
+ */
+public class QueryResultCache {
+
+	/**
+	 * Default maximum number of cached query results.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private final int maximumSize;
+
+	private final Clock clock;
+
+	private final Map<Object, Entry> entries;
+
+	/**
+	 * Create a new {@link QueryResultCache} using {@link #DEFAULT_MAXIMUM_SIZE}.
+	 */
+	public QueryResultCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a new {@link QueryResultCache}.
+	 *
+	 * @param maximumSize maximum number of cached query results, must be greater than zero.
+	 */
+	public QueryResultCache(int maximumSize) {
+		this(maximumSize, Clock.systemUTC());
+	}
+
+	QueryResultCache(int maximumSize, Clock clock) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.maximumSize = maximumSize;
+		this.clock = clock;
+		this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+				return size() > QueryResultCache.this.maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * Remove all cached results.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Return the number of cached results, including in-flight queries and expired results that were not yet removed.
+	 *
+	 * @return the number of cached results.
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Obtain the cached result for {@code key} or load it through {@code loader}. The loaded result is shared with all
+	 * subscribers requesting the same key while the query is in flight and for {@code timeToLive} after it was issued.
+	 *
+	 * @param key the cache key.
+	 * @param timeToLive time to live of the result.
+	 * @param loader supplier for the query materializing the result.
+	 * @return the cached or loaded result.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Mono<List<T>> getOrLoad(Object key, Duration timeToLive, Supplier<Mono<List<T>>> loader) {
+
+		return Mono.defer(() -> {
+
+			long now = this.clock.millis();
+
+			synchronized (this) {
+
+				Entry entry = this.entries.get(key);
+
+				if (entry == null || entry.isExpired(now)) {
+
+					Entry newEntry = new Entry(now + timeToLive.toMillis());
+					newEntry.result = loader.get().doOnError(e -> remove(key, newEntry)).cache();
+
+					this.entries.put(key, newEntry);
+					entry = newEntry;
+				}
+
+				return (Mono<List<T>>) entry.result;
+			}
+		});
+	}
+
+	private synchronized void remove(Object key, Entry entry) {
+
+		if (this.entries.get(key) == entry) {
+			this.entries.remove(key);
+		}
+	}
+
+	private static class Entry {
+
+		final long expiry;
+
+		Mono<?> result;
+
+		Entry(long expiry) {
+			this.expiry = expiry;
+		}
+
+		boolean isExpired(long now) {
+			return now >= this.expiry;
+		}
+	}
+
+	/**
+	 * Cache key composed of SQL, bindings and the mapping function.
+	 */
+	static class Key {
+
+		private final String sql;
+
+		private final Object bindings;
+
+		private final Object mapping;
+
+		Key(String sql, Object bindings, Object mapping) {
+			this.sql = sql;
+			this.bindings = bindings;
+			this.mapping = mapping;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) o;
+			return this.sql.equals(that.sql) && ObjectUtils.nullSafeEquals(this.bindings, that.bindings)
+					&& ObjectUtils.nullSafeEquals(this.mapping, that.mapping);
+		}
+
+		@Override
+		public int hashCode() {
+
+			int result = this.sql.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.bindings);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.mapping);
+			return result;
+		}
+	}
+}
@@ -18,6 +18,8 @@ package org.springframework.data.r2dbc.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.TransientDataAccessResourceException;
 import org.springframework.data.relational.core.query.Query;
@@ -150,4 +152,28 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 * @throws DataAccessException if there is any problem issuing the execution.
 	 */
 	<T> Mono<T> delete(T entity) throws DataAccessException;
+
+	/**
+	 * Update the given entities and emit the updated entities. Entities that render the same {@code UPDATE} statement
+	 * are updated with a single batched statement. Optimistic locking is applied to each entity individually if the
+	 * driver reports an update count per entity, otherwise to the batch as a whole.
+	 *
+	 * @param entities the entities to update, must not be {@literal null}.
+	 * @return the updated entities in the order of {@code entities}.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @throws TransientDataAccessResourceException if the update did not affect any rows.
+	 * @since 1.2
+	 */
+	<T> Flux<T> updateAll(Collection<T> entities) throws DataAccessException;
+
+	/**
+	 * Delete the given entities by their identifiers. Identifiers are deleted in chunks using {@code WHERE id IN (…)}
+	 * considering the maximum number of bind parameters of the database.
+	 *
+	 * @param entities the entities to delete, must not be {@literal null}.
+	 * @return the number of affected rows.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 1.2
+	 */
+	Mono<Integer> deleteAll(Collection<?> entities) throws DataAccessException;
 }
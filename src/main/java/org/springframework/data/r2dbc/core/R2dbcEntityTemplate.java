@@ -20,11 +20,15 @@ import io.r2dbc.spi.RowMetadata;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.beans.FeatureDescriptor;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -34,8 +38,10 @@ import org.reactivestreams.Publisher;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -45,7 +51,6 @@ import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 import org.springframework.data.mapping.context.MappingContext;
-import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.r2dbc.mapping.OutboundRow;
 import org.springframework.data.r2dbc.mapping.SettableValue;
@@ -66,6 +71,7 @@ import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.util.ProxyUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Implementation of {@link R2dbcEntityOperations}. It simplifies the use of Reactive R2DBC usage through entities and
@@ -81,6 +87,12 @@ import org.springframework.util.Assert;
  */
 public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAware, ApplicationContextAware {
 
+	private static final BiFunction<Row, RowMetadata, Boolean> EXISTS_ROW_MAPPER = (row, metadata) -> Boolean.TRUE;
+
+	private static final int MAX_IDS_PER_DELETE = 1000;
+
+	private static final int SNAPSHOT_CAPACITY = 10000;
+
 	private final DatabaseClient databaseClient;
 
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
@@ -89,8 +101,22 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	private final SpelAwareProxyProjectionFactory projectionFactory;
 
+	private final ProjectedColumns projectedColumns;
+
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 
+	private @Nullable ListableBeanFactory callbackBeanFactory;
+
+	private final Map<Class<?>, RegisteredCallbacks> registeredCallbacks = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, EntityCache> entityCaches = new ConcurrentHashMap<>();
+
+	private boolean transactionalIdentityMapEnabled = false;
+
+	private boolean dirtyTrackingEnabled = false;
+
+	private final Object entitySnapshotsKey = new Object();
+
 	/**
 	 * Create a new {@link R2dbcEntityTemplate} given {@link DatabaseClient}.
 	 *
@@ -114,6 +140,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		this.dataAccessStrategy = strategy;
 		this.mappingContext = strategy.getConverter().getMappingContext();
 		this.projectionFactory = new SpelAwareProxyProjectionFactory();
+		this.projectedColumns = new ProjectedColumns(this.projectionFactory);
 	}
 
 	/*
@@ -152,6 +179,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		if (entityCallbacks == null) {
 			setEntityCallbacks(ReactiveEntityCallbacks.create(applicationContext));
+			this.callbackBeanFactory = applicationContext;
 		}
 
 		projectionFactory.setBeanFactory(applicationContext);
@@ -173,6 +201,96 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		Assert.notNull(entityCallbacks, "EntityCallbacks must not be null!");
 		this.entityCallbacks = entityCallbacks;
+		this.callbackBeanFactory = null;
+		this.registeredCallbacks.clear();
+	}
+
+	/**
+	 * Register a {@link EntityCache} for {@code entityClass}. The cache is invalidated by this template on updates and
+	 * deletes affecting {@code entityClass}. {@link EntityCache} entries are keyed by identifier only, so a cache can be
+	 * registered for a single entity type only.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @param entityCache must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@code entityCache} is already registered for a different entity type.
+	 * @since 1.2
+	 */
+	public synchronized void registerEntityCache(Class<?> entityClass, EntityCache entityCache) {
+
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		Assert.notNull(entityCache, "EntityCache must not be null!");
+
+		for (Map.Entry<Class<?>, EntityCache> entry : this.entityCaches.entrySet()) {
+
+			Assert.isTrue(entry.getValue() != entityCache || entry.getKey().equals(entityClass),
+					() -> String.format("EntityCache is already registered for %s and cannot be used for %s!",
+							entry.getKey().getName(), entityClass.getName()));
+		}
+
+		this.entityCaches.put(entityClass, entityCache);
+	}
+
+	/**
+	 * Return the {@link EntityCache} registered for {@code entityClass}.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @return the {@link EntityCache} or {@literal null} if no cache is registered for {@code entityClass}.
+	 * @since 1.2
+	 */
+	@Nullable
+	public EntityCache getEntityCache(Class<?> entityClass) {
+		return this.entityCaches.get(entityClass);
+	}
+
+	/**
+	 * Configure whether to use a transaction-scoped identity map. When enabled, entities loaded, inserted or updated
+	 * within a transaction are retained until the transaction completes and repeated selects by id for the same entity
+	 * type are served from the identity map instead of issuing a query. Updates and deletes using {@link Query} discard
+	 * retained entities of the affected type. Disabled by default.
+	 *
+	 * @param transactionalIdentityMapEnabled {@literal true} to enable the transaction-scoped identity map.
+	 * @since 1.2
+	 */
+	public void setTransactionalIdentityMapEnabled(boolean transactionalIdentityMapEnabled) {
+		this.transactionalIdentityMapEnabled = transactionalIdentityMapEnabled;
+	}
+
+	/**
+	 * Return whether the transaction-scoped identity map is enabled.
+	 *
+	 * @return {@literal true} if the transaction-scoped identity map is enabled.
+	 * @since 1.2
+	 */
+	public boolean isTransactionalIdentityMapEnabled() {
+		return this.transactionalIdentityMapEnabled;
+	}
+
+	/**
+	 * Configure whether updates of entities write changed columns only. When enabled, the template retains the column
+	 * values of entities it selects, inserts or updates within a transaction, keyed by entity type and identifier, and
+	 * {@link #update(Object)} renders only columns whose value differs from the retained values. No statement is issued
+	 * if no column changed. Retained values are scoped to the transaction and discarded on commit and rollback. Entities
+	 * updated outside of a transaction or without retained values are updated with all columns. Updates and deletes
+	 * using {@link Query} discard the retained values of the affected type. Changes applied within the same transaction
+	 * through {@link DatabaseClient} or query methods are not detected. Values that are modified in place, such as a
+	 * mutable {@link java.util.Date}, are shared with the retained values and changes to them are not detected.
+	 * Disabled by default.
+	 *
+	 * @param dirtyTrackingEnabled {@literal true} to update changed columns only.
+	 * @since 1.2
+	 */
+	public void setDirtyTrackingEnabled(boolean dirtyTrackingEnabled) {
+		this.dirtyTrackingEnabled = dirtyTrackingEnabled;
+	}
+
+	/**
+	 * Return whether updates of entities write changed columns only.
+	 *
+	 * @return {@literal true} if dirty tracking is enabled.
+	 * @since 1.2
+	 */
+	public boolean isDirtyTrackingEnabled() {
+		return this.dirtyTrackingEnabled;
 	}
 
 	// -------------------------------------------------------------------------
@@ -271,26 +389,18 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	Mono<Boolean> doExists(Query query, Class<?> entityClass, SqlIdentifier tableName) {
 
-		RelationalPersistentEntity<?> entity = getRequiredEntity(entityClass);
 		StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(entityClass);
-
-		SqlIdentifier columnName = entity.hasIdProperty() ? entity.getRequiredIdProperty().getColumnName()
-				: SqlIdentifier.unquoted("*");
-
-		StatementMapper.SelectSpec selectSpec = statementMapper //
-				.createSelect(tableName) //
-				.withProjection(columnName) //
-				.limit(1);
+		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(tableName);
 
 		Optional<CriteriaDefinition> criteria = query.getCriteria();
 		if (criteria.isPresent()) {
 			selectSpec = criteria.map(selectSpec::withCriteria).orElse(selectSpec);
 		}
 
-		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
+		PreparedOperation<?> operation = statementMapper.getMappedExists(selectSpec);
 
 		return this.databaseClient.execute(operation) //
-				.map((r, md) -> r) //
+				.map(EXISTS_ROW_MAPPER) //
 				.first() //
 				.hasElement();
 	}
@@ -316,12 +426,56 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		RowsFetchSpec<T> fetchSpec = doSelect(query, entityClass, tableName, returnType);
 
 		P result = resultHandler.apply(fetchSpec);
+		boolean afterConvert = getRegisteredCallbacks(returnType).afterConvert;
+
+		boolean snapshot = isSnapshotCandidate(query, entityClass, tableName, returnType);
 
 		if (result instanceof Mono) {
-			return (P) ((Mono<?>) result).flatMap(it -> maybeCallAfterConvert(it, tableName));
+
+			Mono<T> mono = (Mono<T>) result;
+
+			if (snapshot) {
+				mono = retainSnapshots(mono, (RelationalPersistentEntity<T>) getRequiredEntity(entityClass));
+			}
+
+			if (afterConvert) {
+				mono = mono.flatMap(it -> maybeCallAfterConvert(it, tableName));
+			}
+
+			if (!isIdentityMapCandidate(entityClass, tableName, returnType)) {
+				return (P) mono;
+			}
+
+			RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) getRequiredEntity(entityClass);
+			Object id = getIdentifier(query, entity);
+
+			Mono<T> retaining = mono.flatMap(it -> retainInIdentityMap(it, entity));
+
+			if (id == null) {
+				return (P) retaining;
+			}
+
+			return (P) TransactionalIdentityMap.current(this) //
+					.flatMap(it -> Mono.justOrEmpty((T) it.get(entityClass, id))) //
+					.switchIfEmpty(retaining);
+		}
+
+		Flux<T> flux = (Flux<T>) result;
+
+		if (snapshot) {
+			flux = retainSnapshots(flux, (RelationalPersistentEntity<T>) getRequiredEntity(entityClass));
 		}
 
-		return (P) ((Flux<?>) result).flatMap(it -> maybeCallAfterConvert(it, tableName));
+		if (afterConvert) {
+			flux = flux.flatMap(it -> maybeCallAfterConvert(it, tableName));
+		}
+
+		if (!isIdentityMapCandidate(entityClass, tableName, returnType)) {
+			return (P) flux;
+		}
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) getRequiredEntity(entityClass);
+		return (P) flux.concatMap(it -> retainInIdentityMap(it, entity));
 	}
 
 	private <T> RowsFetchSpec<T> doSelect(Query query, Class<?> entityClass, SqlIdentifier tableName,
@@ -331,7 +485,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		StatementMapper.SelectSpec selectSpec = statementMapper //
 				.createSelect(tableName) //
-				.doWithTable((table, spec) -> spec.withProjection(getSelectProjection(table, query, returnType)));
+				.doWithTable((table, spec) -> spec.withProjection(getSelectProjection(table, query, entityClass, returnType)));
 
 		if (query.getLimit() > 0) {
 			selectSpec = selectSpec.limit(query.getLimit());
@@ -399,7 +553,9 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		}
 
 		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
-		return this.databaseClient.execute(operation).fetch().rowsUpdated();
+		return this.databaseClient.execute(operation).fetch().rowsUpdated() //
+				.flatMap(rowsUpdated -> clearSnapshots(entityClass).then(clearEntityCache(entityClass))
+						.then(clearIdentityMap(entityClass)).thenReturn(rowsUpdated));
 	}
 
 	/*
@@ -428,7 +584,9 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		}
 
 		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
-		return this.databaseClient.execute(operation).fetch().rowsUpdated().defaultIfEmpty(0);
+		return this.databaseClient.execute(operation).fetch().rowsUpdated().defaultIfEmpty(0) //
+				.flatMap(rowsUpdated -> clearSnapshots(entityClass).then(clearEntityCache(entityClass))
+						.then(clearIdentityMap(entityClass)).thenReturn(rowsUpdated));
 	}
 
 	// -------------------------------------------------------------------------
@@ -452,6 +610,12 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
 
 		T entityWithVersion = setVersionIfNecessary(persistentEntity, entity);
+		RegisteredCallbacks callbacks = getRegisteredCallbacks(persistentEntity.getType());
+
+		if (!callbacks.beforeConvert && !callbacks.beforeSave) {
+			return Mono.defer(() -> doInsert(entityWithVersion, tableName,
+					dataAccessStrategy.getOutboundRow(entityWithVersion), callbacks.afterSave));
+		}
 
 		return maybeCallBeforeConvert(entityWithVersion, tableName)
 				.flatMap(beforeConvert -> {
@@ -459,11 +623,11 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 					OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(beforeConvert);
 
 					return maybeCallBeforeSave(beforeConvert, outboundRow, tableName) //
-							.flatMap(entityToSave -> doInsert(entityToSave, tableName, outboundRow));
+							.flatMap(entityToSave -> doInsert(entityToSave, tableName, outboundRow, callbacks.afterSave));
 				});
 	}
 
-	private <T> Mono<T> doInsert(T entity, SqlIdentifier tableName, OutboundRow outboundRow) {
+	private <T> Mono<T> doInsert(T entity, SqlIdentifier tableName, OutboundRow outboundRow, boolean afterSave) {
 
 		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
 		StatementMapper.InsertSpec insert = mapper.createInsert(tableName);
@@ -477,12 +641,23 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		PreparedOperation<?> operation = mapper.getMappedObject(insert);
 
-		return this.databaseClient.execute(operation) //
+		Mono<T> saved = this.databaseClient.execute(operation) //
 				.filter(statement -> statement.returnGeneratedValues())
 				.map(this.dataAccessStrategy.getConverter().populateIdIfNecessary(entity)) //
 				.first() //
-				.defaultIfEmpty(entity) //
-				.flatMap(saved -> maybeCallAfterSave(saved, outboundRow, tableName));
+				.defaultIfEmpty(entity);
+
+		if (this.dirtyTrackingEnabled) {
+			saved = saved.flatMap(it -> getEntitySnapshots() //
+					.doOnNext(snapshots -> retainSnapshot(snapshots, it, getRequiredEntity(it), outboundRow)) //
+					.thenReturn(it));
+		}
+
+		if (afterSave) {
+			saved = saved.flatMap(it -> maybeCallAfterSave(it, outboundRow, tableName));
+		}
+
+		return saved.flatMap(it -> retainInIdentityMap(it, getRequiredEntity(it), tableName));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -515,70 +690,186 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 	}
 
 	private <T> Mono<T> doUpdate(T entity, SqlIdentifier tableName) {
+		return prepareUpdate(entity, tableName).flatMap(this::executeUpdate);
+	}
+
+	private <T> Mono<PreparedUpdate<T>> prepareUpdate(T entity, SqlIdentifier tableName) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
+		RegisteredCallbacks callbacks = getRegisteredCallbacks(persistentEntity.getType());
 
-		T entityToUse;
-		Criteria matchingVersionCriteria;
+		return getEntitySnapshots().flatMap(snapshots -> {
 
-		if (persistentEntity.hasVersionProperty()) {
+			// decide before incrementing the version as mutable entities are updated in place
+			OutboundRow unchangedRow = getUnchangedRow(snapshots, persistentEntity, entity);
 
-			matchingVersionCriteria = createMatchingVersionCriteria(entity, persistentEntity);
-			entityToUse = incrementVersion(persistentEntity, entity);
-		} else {
+			if (unchangedRow != null) {
+				return Mono.just(PreparedUpdate.unchanged(entity, tableName, persistentEntity, unchangedRow, snapshots));
+			}
 
-			entityToUse = entity;
-			matchingVersionCriteria = null;
-		}
+			T entityToUse;
+			Criteria matchingVersionCriteria;
+
+			if (persistentEntity.hasVersionProperty()) {
 
-		return maybeCallBeforeConvert(entityToUse, tableName).flatMap(beforeConvert -> {
+				matchingVersionCriteria = createMatchingVersionCriteria(entity, persistentEntity);
+				entityToUse = incrementVersion(persistentEntity, entity);
+			} else {
 
-			OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(beforeConvert);
+				entityToUse = entity;
+				matchingVersionCriteria = null;
+			}
 
-			return maybeCallBeforeSave(beforeConvert, outboundRow, tableName) //
-					.flatMap(entityToSave -> {
+			if (!callbacks.beforeConvert && !callbacks.beforeSave) {
+				return Mono.fromSupplier(() -> createUpdate(entityToUse, tableName, persistentEntity, matchingVersionCriteria,
+						dataAccessStrategy.getOutboundRow(entityToUse), snapshots, callbacks.afterSave));
+			}
 
-						SqlIdentifier idColumn = persistentEntity.getRequiredIdProperty().getColumnName();
-						SettableValue id = outboundRow.remove(idColumn);
-						Criteria criteria = Criteria.where(dataAccessStrategy.toSql(idColumn)).is(id);
+			return maybeCallBeforeConvert(entityToUse, tableName).flatMap(beforeConvert -> {
 
-						if (matchingVersionCriteria != null) {
-							criteria = criteria.and(matchingVersionCriteria);
-						}
+				OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(beforeConvert);
 
-						return doUpdate(entityToSave, tableName, persistentEntity, criteria, outboundRow);
-					});
+				return maybeCallBeforeSave(beforeConvert, outboundRow, tableName) //
+						.map(entityToSave -> createUpdate(entityToSave, tableName, persistentEntity, matchingVersionCriteria,
+								outboundRow, snapshots, callbacks.afterSave));
+			});
 		});
 	}
 
+	/**
+	 * Return the {@link OutboundRow} of {@code entity} if none of its columns changed since the entity was loaded within
+	 * the current transaction.
+	 *
+	 * @return the {@link OutboundRow} or {@literal null} if the entity must be updated.
+	 */
+	@Nullable
+	private <T> OutboundRow getUnchangedRow(EntitySnapshots snapshots, RelationalPersistentEntity<T> persistentEntity,
+			T entity) {
+
+		if (!snapshots.isActive()) {
+			return null;
+		}
+
+		OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(entity);
+		OutboundRow columns = new OutboundRow();
+		columns.putAll(outboundRow);
+
+		SettableValue id = columns.remove(persistentEntity.getRequiredIdProperty().getColumnName());
+
+		if (id == null) {
+			return null;
+		}
+
+		return getChangedColumns(snapshots, persistentEntity, id.getValue(), columns) == null ? outboundRow : null;
+	}
+
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private <T> Mono<T> doUpdate(T entity, SqlIdentifier tableName, RelationalPersistentEntity<T> persistentEntity,
-			Criteria criteria, OutboundRow outboundRow) {
+	private <T> PreparedUpdate<T> createUpdate(T entity, SqlIdentifier tableName,
+			RelationalPersistentEntity<T> persistentEntity, @Nullable Criteria matchingVersionCriteria,
+			OutboundRow outboundRow, EntitySnapshots snapshots, boolean afterSave) {
+
+		SqlIdentifier idColumn = persistentEntity.getRequiredIdProperty().getColumnName();
+		SettableValue id = outboundRow.remove(idColumn);
 
-		Update update = Update.from((Map) outboundRow);
+		OutboundRow columnsToUpdate = getChangedColumns(snapshots, persistentEntity, id != null ? id.getValue() : null,
+				outboundRow);
+
+		// callbacks may revert changes after the version was incremented, so the version must be written anyway
+		if (columnsToUpdate == null) {
+			columnsToUpdate = outboundRow;
+		}
+
+		Criteria criteria = Criteria.where(dataAccessStrategy.toSql(idColumn)).is(id);
+
+		if (matchingVersionCriteria != null) {
+			criteria = criteria.and(matchingVersionCriteria);
+		}
+
+		Update update = Update.from((Map) columnsToUpdate);
 
 		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
 		StatementMapper.UpdateSpec updateSpec = mapper.createUpdate(tableName, update).withCriteria(criteria);
 
 		PreparedOperation<?> operation = mapper.getMappedObject(updateSpec);
 
-		return this.databaseClient.execute(operation) //
+		return new PreparedUpdate<>(entity, tableName, persistentEntity, outboundRow, operation, snapshots, afterSave);
+	}
+
+	/**
+	 * Determine the columns to update by comparing {@link OutboundRow} with the snapshot of the entity retained within
+	 * the current transaction.
+	 *
+	 * @return the columns to update or {@literal null} if no column except the version column changed.
+	 */
+	@Nullable
+	private static OutboundRow getChangedColumns(EntitySnapshots snapshots,
+			RelationalPersistentEntity<?> persistentEntity, @Nullable Object id, OutboundRow outboundRow) {
+
+		if (!snapshots.isActive() || id == null) {
+			return outboundRow;
+		}
+
+		Map<SqlIdentifier, SettableValue> snapshot = snapshots.get(persistentEntity.getType(), id);
+
+		if (snapshot == null) {
+			return outboundRow;
+		}
+
+		RelationalPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+		SqlIdentifier versionColumn = versionProperty != null ? versionProperty.getColumnName() : null;
+
+		OutboundRow changed = new OutboundRow();
+		boolean hasChanges = false;
+
+		for (Map.Entry<SqlIdentifier, SettableValue> entry : outboundRow.entrySet()) {
+
+			if (entry.getValue().equals(snapshot.get(entry.getKey()))) {
+				continue;
+			}
+
+			changed.put(entry.getKey(), entry.getValue());
+			hasChanges |= !entry.getKey().equals(versionColumn);
+		}
+
+		return hasChanges ? changed : null;
+	}
+
+	private <T> Mono<T> executeUpdate(PreparedUpdate<T> update) {
+
+		if (update.operation == null) {
+			return Mono.just(update.entity);
+		}
+
+		return this.databaseClient.execute(update.operation) //
 				.fetch() //
 				.rowsUpdated() //
 				.handle((rowsUpdated, sink) -> {
 
-					if (rowsUpdated != 0) {
-						return;
+					if (rowsUpdated == 0) {
+						sink.error(createUpdateFailure(update.entity, update.persistentEntity));
 					}
+				}).then(Mono.defer(() -> completeUpdate(update)));
+	}
 
-					if (persistentEntity.hasVersionProperty()) {
-						sink.error(new OptimisticLockingFailureException(
-								formatOptimisticLockingExceptionMessage(entity, persistentEntity)));
-					} else {
-						sink.error(new TransientDataAccessResourceException(
-								formatTransientEntityExceptionMessage(entity, persistentEntity)));
-					}
-				}).then(maybeCallAfterSave(entity, outboundRow, tableName));
+	private <T> Mono<T> completeUpdate(PreparedUpdate<T> update) {
+
+		Mono<T> saved = update.afterSave ? maybeCallAfterSave(update.entity, update.outboundRow, update.tableName)
+				: Mono.just(update.entity);
+
+		retainSnapshot(update.snapshots, update.entity, update.persistentEntity, update.outboundRow);
+
+		return evictEntityCache(update.entity, update.persistentEntity) //
+				.then(saved) //
+				.flatMap(it -> retainInIdentityMap(it, update.persistentEntity, update.tableName));
+	}
+
+	private <T> DataAccessException createUpdateFailure(T entity, RelationalPersistentEntity<T> persistentEntity) {
+
+		if (persistentEntity.hasVersionProperty()) {
+			return new OptimisticLockingFailureException(formatOptimisticLockingExceptionMessage(entity, persistentEntity));
+		}
+
+		return new TransientDataAccessResourceException(formatTransientEntityExceptionMessage(entity, persistentEntity));
 	}
 
 	private <T> String formatOptimisticLockingExceptionMessage(T entity, RelationalPersistentEntity<T> persistentEntity) {
@@ -639,6 +930,166 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return delete(getByIdQuery(entity, persistentEntity), persistentEntity.getType()).thenReturn(entity);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.core.R2dbcEntityOperations#updateAll(java.util.Collection)
+	 */
+	@Override
+	public <T> Flux<T> updateAll(Collection<T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return Flux.fromIterable(entities) //
+				.concatMap(it -> prepareUpdate(it, getRequiredEntity(it).getTableName())) //
+				.collectList() //
+				.flatMapMany(this::doUpdateAll);
+	}
+
+	private <T> Flux<T> doUpdateAll(List<PreparedUpdate<T>> updates) {
+
+		Map<String, List<PreparedUpdate<T>>> batches = new LinkedHashMap<>();
+
+		for (PreparedUpdate<T> update : updates) {
+
+			if (update.operation != null) {
+				batches.computeIfAbsent(update.operation.toQuery(), it -> new ArrayList<>()).add(update);
+			}
+		}
+
+		return Flux.defer(() -> {
+
+			Map<PreparedUpdate<T>, T> saved = new IdentityHashMap<>(updates.size());
+
+			return Flux.fromIterable(batches.values()) //
+					.concatMap(batch -> executeUpdateBatch(batch).collectList().doOnNext(entities -> {
+
+						for (int i = 0; i < entities.size(); i++) {
+							saved.put(batch.get(i), entities.get(i));
+						}
+					})) //
+					.thenMany(Flux.fromIterable(updates)) //
+					.map(it -> it.operation == null ? it.entity : saved.get(it));
+		});
+	}
+
+	/**
+	 * Execute updates sharing the same SQL as a single statement using a binding set per entity. Drivers that report a
+	 * {@link io.r2dbc.spi.Result} per binding set allow verifying the update count for each entity. Otherwise, the total
+	 * update count is verified for the batch.
+	 */
+	private <T> Flux<T> executeUpdateBatch(List<PreparedUpdate<T>> batch) {
+
+		if (batch.size() == 1) {
+			return executeUpdate(batch.get(0)).flux();
+		}
+
+		List<PreparedOperation<?>> operations = batch.stream().map(it -> it.operation).collect(Collectors.toList());
+
+		return this.databaseClient.executeBatch(operations).collectList().flatMapMany(rowsUpdated -> {
+
+			if (rowsUpdated.size() == batch.size()) {
+
+				for (int i = 0; i < batch.size(); i++) {
+
+					if (rowsUpdated.get(i) == 0) {
+
+						PreparedUpdate<T> update = batch.get(i);
+						return Flux.error(createUpdateFailure(update.entity, update.persistentEntity));
+					}
+				}
+
+				return Flux.fromIterable(batch).concatMap(this::completeUpdate);
+			}
+
+			// Each update is restricted to a single row by its identifier so the total must match exactly.
+			int total = rowsUpdated.stream().mapToInt(Integer::intValue).sum();
+
+			if (total != batch.size()) {
+				return Flux.error(createBatchUpdateFailure(batch, total));
+			}
+
+			return Flux.fromIterable(batch).concatMap(this::completeUpdate);
+		});
+	}
+
+	private <T> DataAccessException createBatchUpdateFailure(List<PreparedUpdate<T>> batch, int rowsUpdated) {
+
+		RelationalPersistentEntity<T> persistentEntity = batch.get(0).persistentEntity;
+		String message = String.format(
+				"Failed to update table [%s]. Expected %d rows to be updated but %d were updated. Version does not match or row does not exist for one of the entities.",
+				persistentEntity.getTableName(), batch.size(), rowsUpdated);
+
+		if (persistentEntity.hasVersionProperty()) {
+			return new OptimisticLockingFailureException(message);
+		}
+
+		return new TransientDataAccessResourceException(message);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.core.R2dbcEntityOperations#deleteAll(java.util.Collection)
+	 */
+	@Override
+	public Mono<Integer> deleteAll(Collection<?> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		Map<RelationalPersistentEntity<?>, List<Object>> idsByEntity = new LinkedHashMap<>();
+
+		for (Object entity : entities) {
+
+			RelationalPersistentEntity<?> persistentEntity = getRequiredEntity(entity);
+
+			if (!persistentEntity.hasIdProperty()) {
+				throw new MappingException("No id property found for object of type " + persistentEntity.getType() + "!");
+			}
+
+			idsByEntity.computeIfAbsent(persistentEntity, it -> new ArrayList<>())
+					.add(persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier());
+		}
+
+		// Dialects supporting array comparison bind the identifiers of a chunk as single array parameter. Identifier types
+		// that cannot be bound as array fall back to a parameter per identifier so chunks must not exceed the number of
+		// bind parameters either.
+		int chunkSize = Math.min(MAX_IDS_PER_DELETE, dataAccessStrategy.getStatementMapper().getMaxBindParameters());
+
+		return Flux.fromIterable(idsByEntity.entrySet()).concatMap(it -> {
+
+			RelationalPersistentEntity<?> persistentEntity = it.getKey();
+			String idProperty = persistentEntity.getRequiredIdProperty().getName();
+
+			return Flux.fromIterable(it.getValue()) //
+					.buffer(chunkSize) //
+					.concatMap(ids -> doDelete(Query.query(Criteria.where(idProperty).in(ids)), persistentEntity.getType(),
+							persistentEntity.getTableName()));
+		}).reduce(0, Integer::sum);
+	}
+
+	/**
+	 * Return which entity callbacks apply to {@code type}. Callbacks obtained from the {@link ApplicationContext} are
+	 * discovered once per type by inspecting the generic type of the registered callback beans. Callbacks configured
+	 * through {@link #setEntityCallbacks(ReactiveEntityCallbacks)} cannot be introspected and are considered to apply to
+	 * all types.
+	 *
+	 * @param type the entity or result type.
+	 * @return the {@link RegisteredCallbacks} for {@code type}.
+	 */
+	private RegisteredCallbacks getRegisteredCallbacks(Class<?> type) {
+
+		if (this.entityCallbacks == null) {
+			return RegisteredCallbacks.NONE;
+		}
+
+		ListableBeanFactory beanFactory = this.callbackBeanFactory;
+
+		if (beanFactory == null) {
+			return RegisteredCallbacks.ALL;
+		}
+
+		return this.registeredCallbacks.computeIfAbsent(type, it -> RegisteredCallbacks.discover(beanFactory, it));
+	}
+
 	protected <T> Mono<T> maybeCallBeforeConvert(T object, SqlIdentifier table) {
 
 		if (entityCallbacks != null) {
@@ -675,6 +1126,179 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return Mono.just(object);
 	}
 
+	private boolean isIdentityMapCandidate(Class<?> entityClass, SqlIdentifier tableName, Class<?> returnType) {
+
+		if (!this.transactionalIdentityMapEnabled || entityClass != returnType) {
+			return false;
+		}
+
+		RelationalPersistentEntity<?> entity = getRequiredEntity(entityClass);
+		return entity.hasIdProperty() && entity.getTableName().equals(tableName);
+	}
+
+	private <T> Mono<T> retainInIdentityMap(T object, RelationalPersistentEntity<T> persistentEntity,
+			SqlIdentifier tableName) {
+
+		if (!this.transactionalIdentityMapEnabled || !persistentEntity.getTableName().equals(tableName)) {
+			return Mono.just(object);
+		}
+
+		return retainInIdentityMap(object, persistentEntity);
+	}
+
+	private <T> Mono<T> retainInIdentityMap(T object, RelationalPersistentEntity<T> persistentEntity) {
+
+		Object id = persistentEntity.getIdentifierAccessor(object).getIdentifier();
+
+		if (id == null) {
+			return Mono.just(object);
+		}
+
+		return TransactionalIdentityMap.current(this) //
+				.doOnNext(it -> it.put(persistentEntity.getType(), id, object)) //
+				.thenReturn(object);
+	}
+
+	private Mono<Void> clearIdentityMap(Class<?> entityClass) {
+
+		if (!this.transactionalIdentityMapEnabled) {
+			return Mono.empty();
+		}
+
+		return TransactionalIdentityMap.current(this).doOnNext(it -> it.clear(entityClass)).then();
+	}
+
+	/**
+	 * Extract the identifier value if {@link Query} selects a single entity by its identifier only.
+	 *
+	 * @param query the query.
+	 * @param entity the entity.
+	 * @return the identifier value or {@literal null} if the query does not select by identifier only.
+	 */
+	@Nullable
+	private static Object getIdentifier(Query query, RelationalPersistentEntity<?> entity) {
+
+		if (!query.getColumns().isEmpty() || query.getOffset() > 0 || !query.getCriteria().isPresent()) {
+			return null;
+		}
+
+		CriteriaDefinition criteria = query.getCriteria().get();
+
+		if (criteria.isEmpty() || criteria.isGroup() || criteria.hasPrevious() || criteria.isIgnoreCase()
+				|| criteria.getComparator() != CriteriaDefinition.Comparator.EQ) {
+			return null;
+		}
+
+		SqlIdentifier column = criteria.getColumn();
+		RelationalPersistentProperty idProperty = entity.getRequiredIdProperty();
+
+		if (column == null || !(column.getReference().equals(idProperty.getName())
+				|| column.equals(idProperty.getColumnName()))) {
+			return null;
+		}
+
+		Object value = criteria.getValue();
+		return value instanceof SettableValue ? ((SettableValue) value).getValue() : value;
+	}
+
+	private boolean isSnapshotCandidate(Query query, Class<?> entityClass, SqlIdentifier tableName,
+			Class<?> returnType) {
+
+		if (!this.dirtyTrackingEnabled || entityClass != returnType || !query.getColumns().isEmpty()) {
+			return false;
+		}
+
+		RelationalPersistentEntity<?> entity = getRequiredEntity(entityClass);
+		return entity.hasIdProperty() && entity.getTableName().equals(tableName);
+	}
+
+	/**
+	 * Obtain the {@link EntitySnapshots} bound to the current transaction.
+	 *
+	 * @return the {@link EntitySnapshots} of the current transaction or {@link EntitySnapshots#NONE} if dirty tracking is
+	 *         disabled or no transaction is active.
+	 */
+	private Mono<EntitySnapshots> getEntitySnapshots() {
+
+		if (!this.dirtyTrackingEnabled) {
+			return Mono.just(EntitySnapshots.NONE);
+		}
+
+		return EntitySnapshots.current(this.entitySnapshotsKey, SNAPSHOT_CAPACITY).defaultIfEmpty(EntitySnapshots.NONE);
+	}
+
+	private <T> Mono<T> retainSnapshots(Mono<T> source, RelationalPersistentEntity<T> persistentEntity) {
+
+		return getEntitySnapshots().flatMap(snapshots -> {
+
+			if (!snapshots.isActive()) {
+				return source;
+			}
+
+			return source
+					.doOnNext(it -> retainSnapshot(snapshots, it, persistentEntity, dataAccessStrategy.getOutboundRow(it)));
+		});
+	}
+
+	private <T> Flux<T> retainSnapshots(Flux<T> source, RelationalPersistentEntity<T> persistentEntity) {
+
+		return getEntitySnapshots().flatMapMany(snapshots -> {
+
+			if (!snapshots.isActive()) {
+				return source;
+			}
+
+			return source
+					.doOnNext(it -> retainSnapshot(snapshots, it, persistentEntity, dataAccessStrategy.getOutboundRow(it)));
+		});
+	}
+
+	private static <T> void retainSnapshot(EntitySnapshots snapshots, T entity,
+			RelationalPersistentEntity<T> persistentEntity, OutboundRow row) {
+
+		if (!snapshots.isActive()) {
+			return;
+		}
+
+		Object id = persistentEntity.getIdentifierAccessor(entity).getIdentifier();
+
+		if (id != null) {
+			snapshots.put(persistentEntity.getType(), id, row);
+		}
+	}
+
+	private Mono<Void> clearSnapshots(Class<?> entityClass) {
+
+		if (!this.dirtyTrackingEnabled) {
+			return Mono.empty();
+		}
+
+		return getEntitySnapshots().doOnNext(it -> it.clear(entityClass)).then();
+	}
+
+	private Mono<Void> clearEntityCache(Class<?> entityClass) {
+
+		EntityCache entityCache = getEntityCache(entityClass);
+
+		if (entityCache == null) {
+			return Mono.empty();
+		}
+
+		return EntityCache.invalidate(entityCache::clear);
+	}
+
+	private <T> Mono<Void> evictEntityCache(T entity, RelationalPersistentEntity<T> persistentEntity) {
+
+		EntityCache entityCache = getEntityCache(persistentEntity.getType());
+
+		if (entityCache == null) {
+			return Mono.empty();
+		}
+
+		Object id = persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier();
+		return EntityCache.invalidate(() -> entityCache.evict(id));
+	}
+
 	private <T> Query getByIdQuery(T entity, RelationalPersistentEntity<?> persistentEntity) {
 		if (!persistentEntity.hasIdProperty()) {
 			throw new MappingException("No id property found for object of type " + persistentEntity.getType() + "!");
@@ -699,18 +1323,15 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return (RelationalPersistentEntity) getRequiredEntity(entityType);
 	}
 
-	private <T> List<Expression> getSelectProjection(Table table, Query query, Class<T> returnType) {
+	private <T> List<Expression> getSelectProjection(Table table, Query query, Class<?> entityClass,
+			Class<T> returnType) {
 
 		if (query.getColumns().isEmpty()) {
 
-			if (returnType.isInterface()) {
+			List<SqlIdentifier> columns = this.projectedColumns.getColumns(this.mappingContext, entityClass, returnType);
 
-				ProjectionInformation projectionInformation = projectionFactory.getProjectionInformation(returnType);
-
-				if (projectionInformation.isClosed()) {
-					return projectionInformation.getInputProperties().stream().map(FeatureDescriptor::getName).map(table::column)
-							.collect(Collectors.toList());
-				}
+			if (!columns.isEmpty()) {
+				return columns.stream().map(table::column).collect(Collectors.toList());
 			}
 
 			return Collections.singletonList(table.asterisk());
@@ -732,4 +1353,96 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		throw new IllegalStateException("Cannot obtain ReactiveDataAccessStrategy");
 	}
 
+	/**
+	 * Entity callback types that apply to a particular entity or result type.
+	 */
+	private static class RegisteredCallbacks {
+
+		static final RegisteredCallbacks NONE = new RegisteredCallbacks(false, false, false, false);
+
+		static final RegisteredCallbacks ALL = new RegisteredCallbacks(true, true, true, true);
+
+		final boolean beforeConvert;
+
+		final boolean beforeSave;
+
+		final boolean afterSave;
+
+		final boolean afterConvert;
+
+		private RegisteredCallbacks(boolean beforeConvert, boolean beforeSave, boolean afterSave, boolean afterConvert) {
+			this.beforeConvert = beforeConvert;
+			this.beforeSave = beforeSave;
+			this.afterSave = afterSave;
+			this.afterConvert = afterConvert;
+		}
+
+		static RegisteredCallbacks discover(ListableBeanFactory beanFactory, Class<?> type) {
+			return new RegisteredCallbacks(hasCallback(beanFactory, BeforeConvertCallback.class, type),
+					hasCallback(beanFactory, BeforeSaveCallback.class, type), hasCallback(beanFactory, AfterSaveCallback.class, type),
+					hasCallback(beanFactory, AfterConvertCallback.class, type));
+		}
+
+		private static boolean hasCallback(ListableBeanFactory beanFactory, Class<?> callbackType, Class<?> type) {
+
+			for (String beanName : beanFactory.getBeanNamesForType(callbackType, true, false)) {
+
+				Class<?> beanType = beanFactory.getType(beanName, false);
+
+				if (beanType == null) {
+					return true;
+				}
+
+				// lambdas and raw callbacks do not expose their entity type
+				Class<?> callbackEntityType = ResolvableType.forClass(beanType).as(callbackType).resolveGeneric(0);
+
+				if (callbackEntityType == null || ClassUtils.isAssignable(callbackEntityType, type)
+						|| ClassUtils.isAssignable(type, callbackEntityType)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * Mapped {@code UPDATE} of a single entity along with the state required to complete the update.
+	 */
+	private static class PreparedUpdate<T> {
+
+		final T entity;
+
+		final SqlIdentifier tableName;
+
+		final RelationalPersistentEntity<T> persistentEntity;
+
+		final OutboundRow outboundRow;
+
+		final @Nullable PreparedOperation<?> operation;
+
+		final EntitySnapshots snapshots;
+
+		final boolean afterSave;
+
+		PreparedUpdate(T entity, SqlIdentifier tableName, RelationalPersistentEntity<T> persistentEntity,
+				OutboundRow outboundRow, @Nullable PreparedOperation<?> operation, EntitySnapshots snapshots,
+				boolean afterSave) {
+			this.entity = entity;
+			this.tableName = tableName;
+			this.persistentEntity = persistentEntity;
+			this.outboundRow = outboundRow;
+			this.operation = operation;
+			this.snapshots = snapshots;
+			this.afterSave = afterSave;
+		}
+
+		/**
+		 * Create a {@link PreparedUpdate} for an entity without changed columns that does not require a statement.
+		 */
+		static <T> PreparedUpdate<T> unchanged(T entity, SqlIdentifier tableName,
+				RelationalPersistentEntity<T> persistentEntity, OutboundRow outboundRow, EntitySnapshots snapshots) {
+			return new PreparedUpdate<>(entity, tableName, persistentEntity, outboundRow, null, snapshots, false);
+		}
+	}
 }
@@ -18,6 +18,8 @@ package org.springframework.data.r2dbc.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 
@@ -172,6 +174,19 @@ public interface ReactiveSelectOperation {
 		 * @see Flux
 		 */
 		Flux<T> all();
+
+		/**
+		 * Fail with {@link org.springframework.dao.QueryTimeoutException} if the query does not emit its first result
+		 * within {@code timeout}. Consumption of emitted results is not subject to the timeout. On timeout, the
+		 * subscription is cancelled and the connection is released. The statement is not cancelled on the server unless
+		 * the driver does so on cancellation.
+		 *
+		 * @param timeout the timeout; must not be {@literal null} and must be positive.
+		 * @return new instance of {@link TerminatingSelect}.
+		 * @throws IllegalArgumentException if {@link Duration timeout} is {@literal null} or not positive.
+		 * @since 1.2
+		 */
+		TerminatingSelect<T> timeout(Duration timeout);
 	}
 
 	/**
@@ -18,6 +18,8 @@ package org.springframework.data.r2dbc.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
@@ -46,7 +48,7 @@ class ReactiveSelectOperationSupport implements ReactiveSelectOperation {
 
 		Assert.notNull(domainType, "DomainType must not be null");
 
-		return new ReactiveSelectSupport<>(this.template, domainType, domainType, Query.empty(), null);
+		return new ReactiveSelectSupport<>(this.template, domainType, domainType, Query.empty(), null, null);
 	}
 
 	static class ReactiveSelectSupport<T> implements ReactiveSelect<T> {
@@ -56,15 +58,17 @@ class ReactiveSelectOperationSupport implements ReactiveSelectOperation {
 		private final Class<T> returnType;
 		private final Query query;
 		private final @Nullable SqlIdentifier tableName;
+		private final @Nullable Duration timeout;
 
 		ReactiveSelectSupport(R2dbcEntityTemplate template, Class<?> domainType, Class<T> returnType, Query query,
-				@Nullable SqlIdentifier tableName) {
+				@Nullable SqlIdentifier tableName, @Nullable Duration timeout) {
 
 			this.template = template;
 			this.domainType = domainType;
 			this.returnType = returnType;
 			this.query = query;
 			this.tableName = tableName;
+			this.timeout = timeout;
 		}
 
 		/*
@@ -76,7 +80,7 @@ class ReactiveSelectOperationSupport implements ReactiveSelectOperation {
 
 			Assert.notNull(tableName, "Table name must not be null");
 
-			return new ReactiveSelectSupport<>(template, domainType, returnType, query, tableName);
+			return new ReactiveSelectSupport<>(template, domainType, returnType, query, tableName, timeout);
 		}
 
 		/*
@@ -88,7 +92,7 @@ class ReactiveSelectOperationSupport implements ReactiveSelectOperation {
 
 			Assert.notNull(returnType, "ReturnType must not be null");
 
-			return new ReactiveSelectSupport<>(template, domainType, returnType, query, tableName);
+			return new ReactiveSelectSupport<>(template, domainType, returnType, query, tableName, timeout);
 		}
 
 		/*
@@ -100,7 +104,7 @@ class ReactiveSelectOperationSupport implements ReactiveSelectOperation {
 
 			Assert.notNull(query, "Query must not be null");
 
-			return new ReactiveSelectSupport<>(template, domainType, returnType, query, tableName);
+			return new ReactiveSelectSupport<>(template, domainType, returnType, query, tableName, timeout);
 		}
 
 		/*
@@ -109,7 +113,7 @@ class ReactiveSelectOperationSupport implements ReactiveSelectOperation {
 		 */
 		@Override
 		public Mono<Long> count() {
-			return template.doCount(query, domainType, getTableName());
+			return withTimeout(template.doCount(query, domainType, getTableName()));
 		}
 
 		/*
@@ -118,7 +122,7 @@ class ReactiveSelectOperationSupport implements ReactiveSelectOperation {
 		 */
 		@Override
 		public Mono<Boolean> exists() {
-			return template.doExists(query, domainType, getTableName());
+			return withTimeout(template.doExists(query, domainType, getTableName()));
 		}
 
 		/*
@@ -127,7 +131,8 @@ class ReactiveSelectOperationSupport implements ReactiveSelectOperation {
 		 */
 		@Override
 		public Mono<T> first() {
-			return template.doSelect(query.limit(1), domainType, getTableName(), returnType, RowsFetchSpec::first);
+			return withTimeout(
+					template.doSelect(query.limit(1), domainType, getTableName(), returnType, RowsFetchSpec::first));
 		}
 
 		/*
@@ -136,7 +141,8 @@ class ReactiveSelectOperationSupport implements ReactiveSelectOperation {
 		 */
 		@Override
 		public Mono<T> one() {
-			return template.doSelect(query.limit(2), domainType, getTableName(), returnType, RowsFetchSpec::one);
+			return withTimeout(
+					template.doSelect(query.limit(2), domainType, getTableName(), returnType, RowsFetchSpec::one));
 		}
 
 		/*
@@ -145,7 +151,32 @@ class ReactiveSelectOperationSupport implements ReactiveSelectOperation {
 		 */
 		@Override
 		public Flux<T> all() {
-			return template.doSelect(query, domainType, getTableName(), returnType, RowsFetchSpec::all);
+			return withTimeout(template.doSelect(query, domainType, getTableName(), returnType, RowsFetchSpec::all));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.r2dbc.core.ReactiveSelectOperation.TerminatingSelect#timeout(java.time.Duration)
+		 */
+		@Override
+		public TerminatingSelect<T> timeout(Duration timeout) {
+
+			Assert.notNull(timeout, "Timeout must not be null");
+			Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "Timeout must be positive");
+
+			return new ReactiveSelectSupport<>(template, domainType, returnType, query, tableName, timeout);
+		}
+
+		private <R> Mono<R> withTimeout(Mono<R> source) {
+			return timeout != null ? TimeoutFetchSpec.withTimeout(source, timeout, getDescription()) : source;
+		}
+
+		private <R> Flux<R> withTimeout(Flux<R> source) {
+			return timeout != null ? TimeoutFetchSpec.withTimeout(source, timeout, getDescription()) : source;
+		}
+
+		private String getDescription() {
+			return String.format("Select from [%s]", getTableName());
 		}
 
 		private SqlIdentifier getTableName() {
@@ -65,6 +65,19 @@ public interface StatementMapper {
 	 */
 	PreparedOperation<?> getMappedObject(SelectSpec selectSpec);
 
+	/**
+	 * Map a select specification to an existence query {@link PreparedOperation} that returns a single row if any row
+	 * matches the {@link SelectSpec#getCriteria() criteria} and no rows otherwise. Projection, sorting and paging of the
+	 * {@link SelectSpec} are not considered. Defaults to the select specification limited to a single row.
+	 *
+	 * @param selectSpec the select operation definition, must not be {@literal null}.
+	 * @return the {@link PreparedOperation} checking for the existence of rows.
+	 * @since 1.2
+	 */
+	default PreparedOperation<?> getMappedExists(SelectSpec selectSpec) {
+		return getMappedObject(selectSpec.limit(1));
+	}
+
 	/**
 	 * Map a insert specification to a {@link PreparedOperation}.
 	 *
@@ -190,6 +203,17 @@ public interface StatementMapper {
 		return null;
 	}
 
+	/**
+	 * Returns the maximum number of bind parameters a single statement may use. Defaults to no limit.
+	 *
+	 * @return the maximum number of bind parameters per statement.
+	 * @since 1.2
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#getMaxBindParameters()
+	 */
+	default int getMaxBindParameters() {
+		return Integer.MAX_VALUE;
+	}
+
 	/**
 	 * {@code SELECT} specification.
 	 */
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * {@link FetchSpec} decorator that fails with {@link QueryTimeoutException} if the query does not emit its first
+ * signal (the first row, the update count or completion) within a given {@link Duration}. The timeout bounds statement
+ * execution only: once results are emitted, consuming them is not subject to the timeout so that slow subscribers do
+ * not cause a timeout. On timeout, the subscription to the underlying query is cancelled and the connection is
+ * released. Cancelling the subscription does not instruct the database to cancel the statement. Whether a running
+ * statement is stopped on the server depends on the driver's cancellation support.
+ *
+ * @since 1.2
+ */
+class TimeoutFetchSpec<T> implements FetchSpec<T> {
+
+	private final Duration timeout;
+	private final String sql;
+	private final FetchSpec<T> delegate;
+
+	TimeoutFetchSpec(Duration timeout, String sql, FetchSpec<T> delegate) {
+		this.timeout = timeout;
+		this.sql = String.format("Query [%s]", sql);
+		this.delegate = delegate;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.FetchSpec#one()
+	 */
+	@Override
+	public Mono<T> one() {
+		return withTimeout(this.delegate.one(), this.timeout, this.sql);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.FetchSpec#first()
+	 */
+	@Override
+	public Mono<T> first() {
+		return withTimeout(this.delegate.first(), this.timeout, this.sql);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.FetchSpec#all()
+	 */
+	@Override
+	public Flux<T> all() {
+		return withTimeout(this.delegate.all(), this.timeout, this.sql);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.function.FetchSpec#rowsUpdated()
+	 */
+	@Override
+	public Mono<Integer> rowsUpdated() {
+		return withTimeout(this.delegate.rowsUpdated(), this.timeout, this.sql);
+	}
+
+	/**
+	 * Apply {@code timeout} to a {@link Mono} translating the timeout into {@link QueryTimeoutException}.
+	 *
+	 * @param source the query result.
+	 * @param timeout the timeout.
+	 * @param description description of the query used in the exception message, for example {@code Query [SELECT …]}.
+	 * @return the {@link Mono} with the timeout applied.
+	 */
+	static <T> Mono<T> withTimeout(Mono<T> source, Duration timeout, String description) {
+		return source.timeout(timeout).onErrorMap(TimeoutException.class, e -> translate(e, timeout, description));
+	}
+
+	/**
+	 * Apply {@code timeout} to a {@link Flux} translating the timeout into {@link QueryTimeoutException}. The timeout
+	 * applies to the first signal of the {@link Flux} only. Subsequent elements are not subject to the timeout.
+	 *
+	 * @param source the query result.
+	 * @param timeout the timeout.
+	 * @param description description of the query used in the exception message, for example {@code Query [SELECT …]}.
+	 * @return the {@link Flux} with the timeout applied.
+	 */
+	static <T> Flux<T> withTimeout(Flux<T> source, Duration timeout, String description) {
+		return source.timeout(Mono.delay(timeout), it -> Mono.never())
+				.onErrorMap(TimeoutException.class, e -> translate(e, timeout, description));
+	}
+
+	private static QueryTimeoutException translate(TimeoutException e, Duration timeout, String description) {
+		return new QueryTimeoutException(String.format("%s did not respond within %s", description, timeout), e);
+	}
+}
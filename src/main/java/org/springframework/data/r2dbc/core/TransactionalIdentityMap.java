@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+
+/**
+ * Identity map holding entities loaded or written within a single transaction, keyed by entity type and identifier.
+ * The map is bound as transactional resource to the current {@link TransactionSynchronizationManager} and discarded
+ * on transaction completion.
+ *
+ * @since 1.2
+ */
+class TransactionalIdentityMap {
+
+	private final Map<Class<?>, Map<Object, Object>> entities = new ConcurrentHashMap<>();
+
+	/**
+	 * Obtain the {@link TransactionalIdentityMap} bound to the current transaction for {@code resourceKey}. Binds a new
+	 * {@link TransactionalIdentityMap} if none is bound yet.
+	 *
+	 * @param resourceKey the resource key, typically the owning {@link R2dbcEntityTemplate}.
+	 * @return the {@link TransactionalIdentityMap} or an empty {@link Mono} if no transaction is active.
+	 */
+	static Mono<TransactionalIdentityMap> current(Object resourceKey) {
+
+		return TransactionSynchronizationManager.forCurrentTransaction() //
+				.filter(it -> it.isSynchronizationActive() && it.isActualTransactionActive()) //
+				.map(it -> {
+
+					TransactionalIdentityMap identityMap = (TransactionalIdentityMap) it.getResource(resourceKey);
+
+					if (identityMap == null) {
+
+						identityMap = new TransactionalIdentityMap();
+						it.bindResource(resourceKey, identityMap);
+						it.registerSynchronization(new IdentityMapSynchronization(resourceKey));
+					}
+
+					return identityMap;
+				}) //
+				.onErrorResume(NoTransactionException.class, e -> Mono.empty());
+	}
+
+	@Nullable
+	Object get(Class<?> type, Object id) {
+
+		Map<Object, Object> byId = this.entities.get(type);
+		return byId != null ? byId.get(id) : null;
+	}
+
+	void put(Class<?> type, Object id, Object entity) {
+		this.entities.computeIfAbsent(type, it -> new ConcurrentHashMap<>()).put(id, entity);
+	}
+
+	void clear(Class<?> type) {
+		this.entities.remove(type);
+	}
+
+	/**
+	 * {@link TransactionSynchronization} unbinding the {@link TransactionalIdentityMap} on transaction completion.
+	 */
+	private static class IdentityMapSynchronization implements TransactionSynchronization {
+
+		private final Object resourceKey;
+
+		IdentityMapSynchronization(Object resourceKey) {
+			this.resourceKey = resourceKey;
+		}
+
+		@Override
+		public Mono<Void> afterCompletion(int status) {
+
+			return TransactionSynchronizationManager.forCurrentTransaction() //
+					.doOnNext(it -> it.unbindResourceIfPossible(this.resourceKey)) //
+					.then();
+		}
+	}
+}
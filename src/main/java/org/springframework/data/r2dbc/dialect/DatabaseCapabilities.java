@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.dialect;
+
+import io.r2dbc.spi.ConnectionMetadata;
+
+import org.springframework.util.Assert;
+
+/**
+ * Value object describing the server version and capabilities of a database. Capabilities are obtained through
+ * {@link DialectResolver#getCapabilities(io.r2dbc.spi.ConnectionFactory)} by combining {@link ConnectionMetadata} of
+ * the server with the capabilities of the resolved {@link R2dbcDialect}.
+ *
+ * @since 1.2
+ */
+public final class DatabaseCapabilities {
+
+	private final R2dbcDialect dialect;
+
+	private final String databaseProductName;
+
+	private final String databaseVersion;
+
+	private DatabaseCapabilities(R2dbcDialect dialect, String databaseProductName, String databaseVersion) {
+		this.dialect = dialect;
+		this.databaseProductName = databaseProductName;
+		this.databaseVersion = databaseVersion;
+	}
+
+	/**
+	 * Create {@link DatabaseCapabilities} for a {@link R2dbcDialect} and {@link ConnectionMetadata}.
+	 *
+	 * @param dialect must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @return the {@link DatabaseCapabilities}.
+	 */
+	public static DatabaseCapabilities of(R2dbcDialect dialect, ConnectionMetadata metadata) {
+
+		Assert.notNull(dialect, "Dialect must not be null!");
+		Assert.notNull(metadata, "ConnectionMetadata must not be null!");
+
+		return new DatabaseCapabilities(dialect, metadata.getDatabaseProductName(), metadata.getDatabaseVersion());
+	}
+
+	/**
+	 * @return the {@link R2dbcDialect} of the database.
+	 */
+	public R2dbcDialect getDialect() {
+		return this.dialect;
+	}
+
+	/**
+	 * @return the product name of the database as reported by the server.
+	 */
+	public String getDatabaseProductName() {
+		return this.databaseProductName;
+	}
+
+	/**
+	 * @return the version of the database as reported by the server.
+	 */
+	public String getDatabaseVersion() {
+		return this.databaseVersion;
+	}
+
+	/**
+	 * @return {@literal true} if the database supports {@code RETURNING} clauses.
+	 * @see R2dbcDialect#supportsReturning()
+	 */
+	public boolean supportsReturning() {
+		return this.dialect.supportsReturning();
+	}
+
+	/**
+	 * @return the maximum number of bind parameters per statement.
+	 * @see R2dbcDialect#getMaxBindParameters()
+	 */
+	public int getMaxBindParameters() {
+		return this.dialect.getMaxBindParameters();
+	}
+
+	/**
+	 * @return {@literal true} if the database supports multi-row {@code VALUES} clauses.
+	 * @see R2dbcDialect#supportsMultiRowValues()
+	 */
+	public boolean supportsMultiRowValues() {
+		return this.dialect.supportsMultiRowValues();
+	}
+
+	@Override
+	public String toString() {
+		return "DatabaseCapabilities{" + this.databaseProductName + " " + this.databaseVersion + ", returning="
+				+ supportsReturning() + ", maxBindParameters=" + getMaxBindParameters() + ", multiRowValues="
+				+ supportsMultiRowValues() + '}';
+	}
+}
@@ -15,17 +15,23 @@
  */
 package org.springframework.data.r2dbc.dialect;
 
+import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.ConnectionMetadata;
+import reactor.core.publisher.Mono;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.dao.NonTransientDataAccessException;
 import org.springframework.data.util.Optionals;
+import org.springframework.util.Assert;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 
 /**
@@ -41,11 +47,19 @@ public class DialectResolver {
 	private static final List<R2dbcDialectProvider> DETECTORS = SpringFactoriesLoader
 			.loadFactories(R2dbcDialectProvider.class, DialectResolver.class.getClassLoader());
 
+	// weak keys so that cached entries do not retain ConnectionFactory instances that are no longer in use
+	private static final Map<ConnectionFactory, R2dbcDialect> DIALECTS = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private static final Map<ConnectionFactory, DatabaseCapabilities> CAPABILITIES = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
 	// utility constructor.
 	private DialectResolver() {}
 
 	/**
-	 * Retrieve a {@link R2dbcDialect} by inspecting {@link ConnectionFactory} and its metadata.
+	 * Retrieve a {@link R2dbcDialect} by inspecting {@link ConnectionFactory} and its metadata. Resolved dialects are
+	 * cached per {@link ConnectionFactory} instance.
 	 *
 	 * @param connectionFactory must not be {@literal null}.
 	 * @return the resolved {@link R2dbcDialect} {@link NoDialectException} if the database type cannot be determined from
@@ -54,6 +68,51 @@ public class DialectResolver {
 	 */
 	public static R2dbcDialect getDialect(ConnectionFactory connectionFactory) {
 
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+
+		R2dbcDialect dialect = DIALECTS.get(connectionFactory);
+
+		if (dialect == null) {
+			dialect = resolveDialect(connectionFactory);
+			DIALECTS.put(connectionFactory, dialect);
+		}
+
+		return dialect;
+	}
+
+	/**
+	 * Probe the server version and capabilities of the database using {@link ConnectionMetadata} of a newly obtained
+	 * {@link Connection}. Probed capabilities are cached per {@link ConnectionFactory} instance so that a connection is
+	 * obtained only for the first probe.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @return a {@link Mono} emitting the {@link DatabaseCapabilities}. Emits {@link NoDialectException} if no
+	 *         {@link R2dbcDialect} can be found.
+	 * @since 1.2
+	 */
+	public static Mono<DatabaseCapabilities> getCapabilities(ConnectionFactory connectionFactory) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+
+		return Mono.defer(() -> {
+
+			DatabaseCapabilities capabilities = CAPABILITIES.get(connectionFactory);
+
+			if (capabilities != null) {
+				return Mono.just(capabilities);
+			}
+
+			R2dbcDialect dialect = getDialect(connectionFactory);
+
+			return Mono.usingWhen(connectionFactory.create(), //
+					connection -> Mono.fromSupplier(() -> DatabaseCapabilities.of(dialect, connection.getMetadata())), //
+					Connection::close) //
+					.doOnNext(it -> CAPABILITIES.put(connectionFactory, it));
+		});
+	}
+
+	private static R2dbcDialect resolveDialect(ConnectionFactory connectionFactory) {
+
 		return DETECTORS.stream() //
 				.map(it -> it.getDialect(connectionFactory)) //
 				.flatMap(Optionals::toStream) //
@@ -1,5 +1,9 @@
 package org.springframework.data.r2dbc.dialect;
 
+import io.r2dbc.spi.IsolationLevel;
+
+import org.springframework.lang.Nullable;
+
 /**
  * An SQL dialect for H2 in Postgres Compatibility mode.
  *
@@ -11,4 +15,41 @@ public class H2Dialect extends PostgresDialect {
 	 * Singleton instance.
 	 */
 	public static final H2Dialect INSTANCE = new H2Dialect();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.PostgresDialect#supportsArrayComparison(java.lang.Class)
+	 */
+	@Override
+	public boolean supportsArrayComparison(Class<?> elementType) {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.PostgresDialect#renderSetTransaction(io.r2dbc.spi.IsolationLevel, boolean)
+	 */
+	@Nullable
+	@Override
+	public String renderSetTransaction(@Nullable IsolationLevel isolationLevel, boolean readOnly) {
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.PostgresDialect#supportsReturning()
+	 */
+	@Override
+	public boolean supportsReturning() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.PostgresDialect#getMaxBindParameters()
+	 */
+	@Override
+	public int getMaxBindParameters() {
+		return Integer.MAX_VALUE;
+	}
 }
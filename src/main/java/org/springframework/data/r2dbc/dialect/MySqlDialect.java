@@ -78,6 +78,24 @@ public class MySqlDialect extends org.springframework.data.relational.core.diale
 		return CONVERTERS;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#getMaxBindParameters()
+	 */
+	@Override
+	public int getMaxBindParameters() {
+		return 65535;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#supportsMultiRowValues()
+	 */
+	@Override
+	public boolean supportsMultiRowValues() {
+		return true;
+	}
+
 	/**
 	 * Simple singleton to convert {@link Byte}s to their {@link Boolean} representation. MySQL does not have a built-in
 	 * boolean type by default, so relies on using a byte instead. Non-zero values represent {@literal true}.
@@ -1,17 +1,22 @@
 package org.springframework.data.r2dbc.dialect;
 
+import io.r2dbc.spi.IsolationLevel;
+
 import java.net.InetAddress;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.relational.core.dialect.ArrayColumns;
 import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
 /**
@@ -37,6 +42,12 @@ public class PostgresDialect extends org.springframework.data.relational.core.di
 		SIMPLE_TYPES = simpleTypes;
 	}
 
+	/**
+	 * Element types for which the driver encodes arrays.
+	 */
+	private static final Set<Class<?>> ARRAY_COMPARISON_TYPES = new HashSet<>(Arrays.asList(String.class, Integer.class,
+			Long.class, Short.class, Boolean.class, Double.class, Float.class));
+
 	/**
 	 * Singleton instance.
 	 */
@@ -75,6 +86,63 @@ public class PostgresDialect extends org.springframework.data.relational.core.di
 		return this.arrayColumns.get();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#supportsArrayComparison(java.lang.Class)
+	 */
+	@Override
+	public boolean supportsArrayComparison(Class<?> elementType) {
+		return getArraySupport().isSupported() && ARRAY_COMPARISON_TYPES.contains(elementType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#supportsReturning()
+	 */
+	@Override
+	public boolean supportsReturning() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#getMaxBindParameters()
+	 */
+	@Override
+	public int getMaxBindParameters() {
+		return 32767;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#supportsMultiRowValues()
+	 */
+	@Override
+	public boolean supportsMultiRowValues() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#renderSetTransaction(io.r2dbc.spi.IsolationLevel, boolean)
+	 */
+	@Nullable
+	@Override
+	public String renderSetTransaction(@Nullable IsolationLevel isolationLevel, boolean readOnly) {
+
+		List<String> modes = new ArrayList<>(2);
+
+		if (isolationLevel != null) {
+			modes.add("ISOLATION LEVEL " + isolationLevel.asSql());
+		}
+
+		if (readOnly) {
+			modes.add("READ ONLY");
+		}
+
+		return modes.isEmpty() ? null : "SET TRANSACTION " + String.join(", ", modes);
+	}
+
 	private static class R2dbcArrayColumns implements ArrayColumns {
 
 		private final ArrayColumns delegate;
@@ -1,5 +1,7 @@
 package org.springframework.data.r2dbc.dialect;
 
+import io.r2dbc.spi.IsolationLevel;
+
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -8,6 +10,13 @@ import java.util.Set;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.r2dbc.mapping.R2dbcSimpleTypeHolder;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectBuilder;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.lang.Nullable;
 
 /**
  * R2DBC-specific extension to {@link Dialect}. Represents a dialect that is implemented by a particular database.
@@ -58,4 +67,87 @@ public interface R2dbcDialect extends Dialect {
 	default Collection<Object> getConverters() {
 		return Collections.emptySet();
 	}
+
+	/**
+	 * Return whether {@code IN} predicates comparing values of {@code elementType} can be rendered as comparison against
+	 * a single array bind parameter, such as {@code column = ANY($1)}, instead of using a bind parameter per element.
+	 * Dialects should only accept element types for which the driver can encode arrays. Defaults to {@literal false}.
+	 *
+	 * @param elementType the type of the compared values.
+	 * @return {@literal true} if {@code IN} predicates can bind values of {@code elementType} as array.
+	 * @since 1.2
+	 */
+	default boolean supportsArrayComparison(Class<?> elementType) {
+		return false;
+	}
+
+	/**
+	 * Return whether {@code INSERT} and {@code UPDATE} statements can return column values through a {@code RETURNING}
+	 * clause. Defaults to {@literal false}.
+	 *
+	 * @return {@literal true} if the database supports {@code RETURNING} clauses.
+	 * @since 1.2
+	 */
+	default boolean supportsReturning() {
+		return false;
+	}
+
+	/**
+	 * Return the maximum number of bind parameters that can be used within a single statement. Defaults to
+	 * {@link Integer#MAX_VALUE} if the database does not impose a known limit.
+	 *
+	 * @return the maximum number of bind parameters per statement.
+	 * @since 1.2
+	 */
+	default int getMaxBindParameters() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Return whether {@code INSERT} statements can insert multiple rows using a single {@code VALUES} clause. Defaults to
+	 * {@literal false}.
+	 *
+	 * @return {@literal true} if the database supports multi-row {@code VALUES} clauses.
+	 * @since 1.2
+	 */
+	default boolean supportsMultiRowValues() {
+		return false;
+	}
+
+	/**
+	 * Create a query that returns a single row if {@code table} contains at least one row matching {@code condition}
+	 * and no rows otherwise. The query selects a constant instead of table columns so that the database does not need to
+	 * read row data. Defaults to {@code SELECT 1 FROM table WHERE condition} limited to a single row.
+	 *
+	 * @param table the table to query, must not be {@literal null}.
+	 * @param condition the condition, can be {@literal null} to check whether the table contains any rows.
+	 * @return the existence query.
+	 * @since 1.2
+	 */
+	default Select getExistsQuery(Table table, @Nullable Condition condition) {
+
+		SelectBuilder.SelectFromAndJoin select = StatementBuilder.select(SQL.literalOf(1)).from(table);
+
+		if (condition != null) {
+			select.where(condition);
+		}
+
+		return select.limit(1).build();
+	}
+
+	/**
+	 * Render a single statement that applies the given {@link IsolationLevel} and read-only characteristics to the
+	 * current transaction. The statement is issued right after the transaction has begun. Dialects that cannot express
+	 * transaction characteristics as a single statement return {@literal null}. Defaults to {@literal null}.
+	 *
+	 * @param isolationLevel the isolation level to apply, can be {@literal null} to use the default isolation level.
+	 * @param readOnly whether the transaction is read-only.
+	 * @return the statement applying the transaction characteristics or {@literal null} if not supported by this
+	 *         dialect.
+	 * @since 1.2
+	 */
+	@Nullable
+	default String renderSetTransaction(@Nullable IsolationLevel isolationLevel, boolean readOnly) {
+		return null;
+	}
 }
@@ -6,6 +6,14 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectBuilder;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.lang.Nullable;
+
 /**
  * An SQL dialect for Microsoft SQL Server.
  *
@@ -42,6 +50,41 @@ public class SqlServerDialect extends org.springframework.data.relational.core.d
 		return SIMPLE_TYPES;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#getExistsQuery(org.springframework.data.relational.core.sql.Table, org.springframework.data.relational.core.sql.Condition)
+	 */
+	@Override
+	public Select getExistsQuery(Table table, @Nullable Condition condition) {
+
+		// OFFSET … FETCH requires ORDER BY so we use TOP instead
+		SelectBuilder.SelectFromAndJoin select = StatementBuilder.select(Expressions.just("TOP 1 1")).from(table);
+
+		if (condition != null) {
+			select.where(condition);
+		}
+
+		return select.build();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#getMaxBindParameters()
+	 */
+	@Override
+	public int getMaxBindParameters() {
+		return 2100;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.dialect.R2dbcDialect#supportsMultiRowValues()
+	 */
+	@Override
+	public boolean supportsMultiRowValues() {
+		return true;
+	}
+
 	private static String filterBindMarker(CharSequence input) {
 
 		StringBuilder builder = new StringBuilder();
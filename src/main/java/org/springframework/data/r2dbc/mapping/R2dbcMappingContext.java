@@ -15,6 +15,8 @@
  */
 package org.springframework.data.r2dbc.mapping;
 
+import org.reactivestreams.Publisher;
+
 import org.springframework.core.KotlinDetector;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -56,6 +58,11 @@ public class R2dbcMappingContext extends RelationalMappingContext {
 			return false;
 		}
 
+		// Publishers are streamed values (e.g. large objects) and not nested entities
+		if (Publisher.class.isAssignableFrom(type.getType())) {
+			return false;
+		}
+
 		return !KotlinDetector.isKotlinType(type.getType()) || KotlinReflectionUtils.isSupportedKotlinClass(type.getType());
 	}
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.r2dbc.mapping;
 
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.Clob;
 import io.r2dbc.spi.Row;
 
 import java.math.BigDecimal;
@@ -38,7 +40,8 @@ public class R2dbcSimpleTypeHolder extends SimpleTypeHolder {
 	 * Set of R2DBC simple types.
 	 */
 	public static final Set<Class<?>> R2DBC_SIMPLE_TYPES = Collections.unmodifiableSet(
-			new HashSet<>(Arrays.asList(OutboundRow.class, Row.class, BigInteger.class, BigDecimal.class, UUID.class)));
+			new HashSet<>(Arrays.asList(OutboundRow.class, Row.class, BigInteger.class, BigDecimal.class, UUID.class,
+					Blob.class, Clob.class)));
 
 	public static final SimpleTypeHolder HOLDER = new R2dbcSimpleTypeHolder();
 
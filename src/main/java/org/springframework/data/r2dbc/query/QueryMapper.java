@@ -15,11 +15,14 @@
  */
 package org.springframework.data.r2dbc.query;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.springframework.data.domain.Sort;
@@ -28,6 +31,7 @@ import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.dialect.BindMarker;
 import org.springframework.data.r2dbc.dialect.BindMarkers;
@@ -58,9 +62,18 @@ import org.springframework.util.ClassUtils;
  */
 public class QueryMapper {
 
+	/**
+	 * Maximum number of cached {@link Field fields} per entity. Guards against unbounded growth when property names
+	 * originate from user input.
+	 */
+	private static final int MAX_CACHED_FIELDS_PER_ENTITY = 256;
+
 	private final R2dbcConverter converter;
 	private final R2dbcDialect dialect;
 	private final MappingContext<? extends RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext;
+	private final SimpleTypeHolder simpleTypeHolder;
+	private final Map<Class<?>, Boolean> passThroughTypes = new ConcurrentHashMap<>();
+	private final Map<RelationalPersistentEntity<?>, Map<SqlIdentifier, Field>> fieldCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link QueryMapper} with the given {@link R2dbcConverter}.
@@ -77,6 +90,7 @@ public class QueryMapper {
 		this.converter = converter;
 		this.dialect = dialect;
 		this.mappingContext = (MappingContext) converter.getMappingContext();
+		this.simpleTypeHolder = dialect.getSimpleTypeHolder();
 	}
 
 	/**
@@ -415,16 +429,28 @@ public class QueryMapper {
 
 		if (value instanceof Iterable) {
 
+			TypeInformation<?> elementType = typeInformation.getActualType() != null
+					? typeInformation.getRequiredActualType()
+					: ClassTypeInformation.OBJECT;
+
+			if (value instanceof Collection && isPassThrough((Collection<?>) value, elementType.getType())) {
+				return value;
+			}
+
 			List<Object> mapped = new ArrayList<>();
 
 			for (Object o : (Iterable<?>) value) {
-				mapped.add(convertValue(o, typeInformation.getActualType() != null ? typeInformation.getRequiredActualType()
-						: ClassTypeInformation.OBJECT));
+				mapped.add(convertValue(o, elementType));
 			}
 
 			return mapped;
 		}
 
+		if ((ClassTypeInformation.OBJECT.equals(typeInformation) || typeInformation.getType() == value.getClass())
+				&& isPassThroughType(value.getClass())) {
+			return value;
+		}
+
 		if (value.getClass().isArray()
 				&& (ClassTypeInformation.OBJECT.equals(typeInformation) || typeInformation.isCollectionLike())) {
 			return value;
@@ -433,6 +459,38 @@ public class QueryMapper {
 		return this.converter.writeValue(value, typeInformation);
 	}
 
+	/**
+	 * Check whether all elements of {@code values} can be used as-is for {@code targetType}. Elements must be simple
+	 * types of exactly the target type (or any type if the target type is {@link Object}) that are not subject to write
+	 * conversion.
+	 */
+	private boolean isPassThrough(Collection<?> values, Class<?> targetType) {
+
+		for (Object value : values) {
+
+			if (value == null) {
+				continue;
+			}
+
+			Class<?> type = value.getClass();
+
+			if ((targetType != Object.class && type != targetType) || !isPassThroughType(type)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Check whether values of {@code type} are written without conversion, i.e. {@code type} is a simple type without a
+	 * custom write target.
+	 */
+	private boolean isPassThroughType(Class<?> type) {
+		return this.passThroughTypes.computeIfAbsent(type,
+				it -> this.simpleTypeHolder.isSimpleType(it) && this.converter.getTargetType(it) == it);
+	}
+
 	protected MappingContext<? extends RelationalPersistentEntity<?>, RelationalPersistentProperty> getMappingContext() {
 		return this.mappingContext;
 	}
@@ -465,6 +523,21 @@ public class QueryMapper {
 
 			Condition condition;
 
+			Object array = mappedValue instanceof Collection ? toBindableArray((Collection<?>) mappedValue, valueType)
+					: null;
+
+			if (array != null) {
+
+				BindMarker bindMarker = bindings.nextMarker(column.getName().getReference());
+				bindings.bind(bindMarker, array);
+
+				List<Expression> arrayExpression = Collections.singletonList(SQL.bindMarker(bindMarker.getPlaceholder()));
+
+				return comparator == Comparator.NOT_IN
+						? Comparison.create(columnExpression, "!=", SimpleFunction.create("ALL", arrayExpression))
+						: Comparison.create(columnExpression, "=", SimpleFunction.create("ANY", arrayExpression));
+			}
+
 			if (mappedValue instanceof Iterable) {
 
 				List<Expression> expressions = new ArrayList<>(
@@ -546,13 +619,58 @@ public class QueryMapper {
 		}
 	}
 
+	/**
+	 * Convert {@code values} into an array that can be bound as single parameter if all values are of the same type and
+	 * the dialect {@link R2dbcDialect#supportsArrayComparison(Class) supports array comparison} for that type.
+	 *
+	 * @return the array or {@literal null} if {@code values} cannot be bound as array.
+	 */
+	@Nullable
+	private Object toBindableArray(Collection<?> values, Class<?> valueType) {
+
+		Class<?> elementType = ClassUtils.resolvePrimitiveIfNecessary(valueType);
+
+		if (values.isEmpty() || !this.dialect.supportsArrayComparison(elementType)) {
+			return null;
+		}
+
+		for (Object value : values) {
+			if (value != null && !elementType.isInstance(value)) {
+				return null;
+			}
+		}
+
+		return values.toArray((Object[]) Array.newInstance(elementType, values.size()));
+	}
+
 	Field createPropertyField(@Nullable RelationalPersistentEntity<?> entity, SqlIdentifier key) {
-		return entity == null ? new Field(key) : new MetadataBackedField(key, entity, mappingContext);
+		return createPropertyField(entity, key, this.mappingContext);
 	}
 
 	Field createPropertyField(@Nullable RelationalPersistentEntity<?> entity, SqlIdentifier key,
 			MappingContext<? extends RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext) {
-		return entity == null ? new Field(key) : new MetadataBackedField(key, entity, mappingContext);
+
+		if (entity == null) {
+			return new Field(key);
+		}
+
+		if (mappingContext != this.mappingContext) {
+			return new MetadataBackedField(key, entity, mappingContext);
+		}
+
+		Map<SqlIdentifier, Field> fields = this.fieldCache.computeIfAbsent(entity, it -> new ConcurrentHashMap<>());
+		Field field = fields.get(key);
+
+		if (field == null) {
+
+			field = new MetadataBackedField(key, entity, mappingContext);
+
+			if (fields.size() < MAX_CACHED_FIELDS_PER_ENTITY) {
+				fields.putIfAbsent(key, field);
+			}
+		}
+
+		return field;
 	}
 
 	Class<?> getTypeHint(@Nullable Object mappedValue, Class<?> propertyType) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Annotation to declare a timeout for the execution of a query method. Query methods fail with
+ * {@link org.springframework.dao.QueryTimeoutException} if the query does not emit its first result within the
+ * timeout. Consumption of emitted results is not subject to the timeout. On timeout, the subscription is cancelled and
+ * the connection is released. The statement is not cancelled on the server unless the driver does so on cancellation.
+ *
+ * @since 1.2
+ * @see org.springframework.data.r2dbc.core.DatabaseClient.GenericExecuteSpec#timeout(java.time.Duration)
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface QueryTimeout {
+
+	/**
+	 * The timeout expressed in {@link #unit()}. Must be positive.
+	 */
+	long value();
+
+	/**
+	 * The unit of {@link #value()}. Defaults to {@link ChronoUnit#SECONDS}.
+	 */
+	ChronoUnit unit() default ChronoUnit.SECONDS;
+}
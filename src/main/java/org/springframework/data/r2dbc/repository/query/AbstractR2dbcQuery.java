@@ -18,6 +18,8 @@ package org.springframework.data.r2dbc.repository.query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 import org.reactivestreams.Publisher;
 
 import org.springframework.data.mapping.model.EntityInstantiators;
@@ -34,7 +36,9 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Base class for reactive {@link RepositoryQuery} implementations for R2DBC.
@@ -47,6 +51,7 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 	private final DatabaseClient databaseClient;
 	private final R2dbcConverter converter;
 	private final EntityInstantiators instantiators;
+	private volatile @Nullable ExecutionPlan executionPlan;
 
 	/**
 	 * Creates a new {@link AbstractR2dbcQuery} from the given {@link R2dbcQueryMethod} and {@link DatabaseClient}.
@@ -102,16 +107,58 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 		// TODO: ConvertingParameterAccessor
 		BindableQuery query = createQuery(parameterAccessor);
 
-		ResultProcessor processor = method.getResultProcessor().withDynamicProjection(parameterAccessor);
+		ExecutionPlan plan = getExecutionPlan(parameterAccessor);
 		GenericExecuteSpec boundQuery = query.bind(databaseClient.execute(query));
-		FetchSpec<?> fetchSpec = boundQuery.as(resolveResultType(processor)).fetch();
 
-		SqlIdentifier tableName = method.getEntityInformation().getTableName();
+		if (plan.timeout != null) {
+			boundQuery = boundQuery.timeout(plan.timeout);
+		}
 
-		R2dbcQueryExecution execution = new ResultProcessingExecution(getExecutionToWrap(processor.getReturnedType()),
-				new ResultProcessingConverter(processor, converter.getMappingContext(), instantiators));
+		FetchSpec<?> fetchSpec = plan.existsQuery ? boundQuery.fetch() : boundQuery.as(plan.resultType).fetch();
 
-		return execution.execute(fetchSpec, processor.getReturnedType().getDomainType(), tableName);
+		return plan.execute(fetchSpec);
+	}
+
+	/**
+	 * Obtain the {@link ExecutionPlan} for the current invocation. Plans are created once and reused unless the query
+	 * method uses dynamic projections.
+	 */
+	ExecutionPlan getExecutionPlan(RelationalParameterAccessor parameterAccessor) {
+
+		if (method.getParameters().hasDynamicProjection()) {
+			return createExecutionPlan(method.getResultProcessor().withDynamicProjection(parameterAccessor));
+		}
+
+		ExecutionPlan plan = this.executionPlan;
+
+		if (plan == null) {
+			plan = createExecutionPlan(method.getResultProcessor());
+			this.executionPlan = plan;
+		}
+
+		return plan;
+	}
+
+	private ExecutionPlan createExecutionPlan(ResultProcessor processor) {
+
+		ReturnedType returnedType = processor.getReturnedType();
+		R2dbcQueryExecution execution = getExecutionToWrap(returnedType);
+
+		if (requiresResultProcessing(returnedType)) {
+			execution = new ResultProcessingExecution(execution,
+					new ResultProcessingConverter(processor, converter.getMappingContext(), instantiators));
+		}
+
+		return new ExecutionPlan(resolveResultType(processor), isExistsQuery(), execution, returnedType.getDomainType(),
+				method.getEntityInformation().getTableName(), method.getTimeout().orElse(null));
+	}
+
+	/**
+	 * Results require processing only if they are projected into a different type. Entities, simple values and
+	 * {@code Void} results are emitted as they are fetched.
+	 */
+	static boolean requiresResultProcessing(ReturnedType returnedType) {
+		return returnedType.isProjecting() && !ClassUtils.isPrimitiveOrWrapper(returnedType.getReturnedType());
 	}
 
 	private Class<?> resolveResultType(ResultProcessor resultProcessor) {
@@ -143,6 +190,10 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 			return (q, t, c) -> q.rowsUpdated();
 		}
 
+		if (isExistsQuery()) {
+			return (q, t, c) -> q.first().hasElement();
+		}
+
 		if (method.isCollectionQuery()) {
 			return (q, t, c) -> q.all();
 		}
@@ -158,6 +209,17 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 	 */
 	protected abstract boolean isModifyingQuery();
 
+	/**
+	 * Returns whether this query checks for the existence of rows. Existence queries emit {@literal true} if the query
+	 * returns any row without mapping the row. Defaults to {@literal false}.
+	 *
+	 * @return
+	 * @since 1.2
+	 */
+	protected boolean isExistsQuery() {
+		return false;
+	}
+
 	/**
 	 * Creates a {@link BindableQuery} instance using the given {@link ParameterAccessor}
 	 *
@@ -165,4 +227,32 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 	 * @return the {@link BindableQuery}.
 	 */
 	protected abstract BindableQuery createQuery(RelationalParameterAccessor accessor);
+
+	/**
+	 * Immutable execution plan of a query method capturing the resolved result type and the {@link R2dbcQueryExecution}
+	 * so that these are not resolved on each invocation.
+	 */
+	static class ExecutionPlan {
+
+		final Class<?> resultType;
+		final boolean existsQuery;
+		final R2dbcQueryExecution execution;
+		final Class<?> domainType;
+		final SqlIdentifier tableName;
+		final @Nullable Duration timeout;
+
+		ExecutionPlan(Class<?> resultType, boolean existsQuery, R2dbcQueryExecution execution, Class<?> domainType,
+				SqlIdentifier tableName, @Nullable Duration timeout) {
+			this.resultType = resultType;
+			this.existsQuery = existsQuery;
+			this.execution = execution;
+			this.domainType = domainType;
+			this.tableName = tableName;
+			this.timeout = timeout;
+		}
+
+		Object execute(FetchSpec<?> fetchSpec) {
+			return this.execution.execute(fetchSpec, this.domainType, this.tableName);
+		}
+	}
 }
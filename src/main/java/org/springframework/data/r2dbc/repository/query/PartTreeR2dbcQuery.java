@@ -80,6 +80,15 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 		return this.tree.isDelete();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.r2dbc.repository.query.AbstractR2dbcQuery#isExistsQuery()
+	 */
+	@Override
+	protected boolean isExistsQuery() {
+		return this.tree.isExistsProjection();
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.r2dbc.repository.query.AbstractR2dbcQuery#createQuery(org.springframework.data.relational.repository.query.RelationalParameterAccessor)
@@ -92,6 +92,10 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 			return delete(criteria, statementMapper);
 		}
 
+		if (tree.isExistsProjection()) {
+			return exists(criteria, statementMapper);
+		}
+
 		return select(criteria, sort, statementMapper);
 	}
 
@@ -103,14 +107,20 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		return statementMapper.getMappedObject(deleteSpec);
 	}
 
+	private PreparedOperation<?> exists(@Nullable Criteria criteria, StatementMapper statementMapper) {
+
+		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(entityMetadata.getTableName())
+				.withCriteria(criteria);
+
+		return statementMapper.getMappedExists(selectSpec);
+	}
+
 	private PreparedOperation<?> select(@Nullable Criteria criteria, Sort sort, StatementMapper statementMapper) {
 
 		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(entityMetadata.getTableName())
 				.withProjection(getSelectProjection());
 
-		if (tree.isExistsProjection()) {
-			selectSpec = selectSpec.limit(1);
-		} else if (tree.isLimiting()) {
+		if (tree.isLimiting()) {
 			selectSpec = selectSpec.limit(tree.getMaxResults());
 		}
 
@@ -151,11 +161,6 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 				expressions.add(column);
 			}
 
-		} else if (tree.isExistsProjection()) {
-
-			expressions = dataAccessStrategy.getIdentifierColumns(entityMetadata.getJavaType()).stream()
-				.map(table::column)
-				.collect(Collectors.toList());
 		} else if (tree.isCountProjection()) {
 
 			SqlIdentifier idColumn = entityMetadata.getTableEntity().getRequiredIdProperty().getColumnName();
@@ -18,6 +18,7 @@ package org.springframework.data.r2dbc.repository.query;
 import static org.springframework.data.repository.util.ClassUtils.*;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Optional;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
@@ -30,6 +31,7 @@ import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.QueryTimeout;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
@@ -63,6 +65,7 @@ public class R2dbcQueryMethod extends QueryMethod {
 	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
 	private final Optional<Query> query;
 	private final boolean modifying;
+	private final @Nullable Duration timeout;
 	private final Lazy<Boolean> isCollectionQuery;
 
 	private @Nullable RelationalEntityMetadata<?> metadata;
@@ -114,6 +117,7 @@ public class R2dbcQueryMethod extends QueryMethod {
 		this.query = Optional.ofNullable(
 				AnnotatedElementUtils.findMergedAnnotation(method, Query.class));
 		this.modifying = AnnotatedElementUtils.hasAnnotation(method, Modifying.class);
+		this.timeout = getTimeout(method);
 		this.isCollectionQuery = Lazy.of(() -> !(isPageQuery() || isSliceQuery())
 				&& ReactiveWrappers.isMultiValueType(metadata.getReturnType(method).getType()));
 	}
@@ -238,4 +242,31 @@ public class R2dbcQueryMethod extends QueryMethod {
 	public boolean hasAnnotatedQuery() {
 		return getQueryAnnotation().isPresent();
 	}
+
+	/**
+	 * Returns the timeout declared through {@link QueryTimeout}.
+	 *
+	 * @return the optional timeout.
+	 * @since 1.2
+	 */
+	public Optional<Duration> getTimeout() {
+		return Optional.ofNullable(this.timeout);
+	}
+
+	@Nullable
+	private static Duration getTimeout(Method method) {
+
+		QueryTimeout timeout = AnnotatedElementUtils.findMergedAnnotation(method, QueryTimeout.class);
+
+		if (timeout == null) {
+			return null;
+		}
+
+		if (timeout.value() <= 0) {
+			throw new IllegalStateException(
+					String.format("Query timeout must be positive. Offending method: %s", method.toString()));
+		}
+
+		return Duration.of(timeout.value(), timeout.unit());
+	}
 }
@@ -17,11 +17,13 @@ package org.springframework.data.r2dbc.repository.support;
 
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.data.r2dbc.core.EntityCache;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
@@ -58,6 +60,9 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
 	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
 	private final R2dbcConverter converter;
+	private final @Nullable R2dbcEntityOperations operations;
+
+	private @Nullable Function<Class<?>, EntityCache> entityCacheFactory;
 
 	/**
 	 * Creates a new {@link R2dbcRepositoryFactory} given {@link DatabaseClient} and {@link MappingContext}.
@@ -74,6 +79,7 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 		this.dataAccessStrategy = dataAccessStrategy;
 		this.converter = dataAccessStrategy.getConverter();
 		this.mappingContext = this.converter.getMappingContext();
+		this.operations = null;
 	}
 
 	/**
@@ -90,6 +96,24 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 		this.dataAccessStrategy = operations.getDataAccessStrategy();
 		this.converter = dataAccessStrategy.getConverter();
 		this.mappingContext = this.converter.getMappingContext();
+		this.operations = operations;
+	}
+
+	/**
+	 * Configure a factory creating a {@link EntityCache} for the domain type of each repository created by this factory.
+	 * The factory is called once per repository and must return a distinct cache for each domain type or
+	 * {@literal null} to not cache entities of that type. Repositories consult the cache for lookups by id.
+	 * <p>
+	 * Caches are registered through {@link R2dbcEntityTemplate#registerEntityCache(Class, EntityCache)} with the
+	 * template used by the repository so that the template invalidates them. If this factory was created with
+	 * {@link R2dbcEntityOperations}, that template instance is modified and its cache registrations apply to all of its
+	 * users.
+	 *
+	 * @param entityCacheFactory function creating the {@link EntityCache} for a domain type, can be {@literal null}.
+	 * @since 1.2
+	 */
+	public void setEntityCacheFactory(@Nullable Function<Class<?>, EntityCache> entityCacheFactory) {
+		this.entityCacheFactory = entityCacheFactory;
 	}
 
 	/*
@@ -111,8 +135,19 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 		RelationalEntityInformation<?, ?> entityInformation = getEntityInformation(information.getDomainType(),
 				information);
 
-		return getTargetRepositoryViaReflection(information, entityInformation,
-				new R2dbcEntityTemplate(this.databaseClient, this.dataAccessStrategy), this.converter);
+		R2dbcEntityOperations operations = this.operations != null ? this.operations
+				: new R2dbcEntityTemplate(this.databaseClient, this.dataAccessStrategy);
+
+		EntityCache entityCache = this.entityCacheFactory != null
+				? this.entityCacheFactory.apply(information.getDomainType()) : null;
+
+		if (entityCache != null) {
+
+			Assert.state(operations instanceof R2dbcEntityTemplate, "EntityCache requires R2dbcEntityTemplate");
+			((R2dbcEntityTemplate) operations).registerEntityCache(information.getDomainType(), entityCache);
+		}
+
+		return getTargetRepositoryViaReflection(information, entityInformation, operations, this.converter);
 	}
 
 	/*
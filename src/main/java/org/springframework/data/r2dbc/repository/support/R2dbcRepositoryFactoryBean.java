@@ -19,6 +19,7 @@ import java.io.Serializable;
 
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.data.r2dbc.core.EntityCache;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
 import org.springframework.data.repository.Repository;
@@ -42,6 +43,7 @@ public class R2dbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	private @Nullable DatabaseClient client;
 	private @Nullable ReactiveDataAccessStrategy dataAccessStrategy;
 	private @Nullable R2dbcEntityOperations operations;
+	private @Nullable EntityCache entityCache;
 
 	private boolean mappingContextConfigured = false;
 
@@ -75,6 +77,20 @@ public class R2dbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.operations = operations;
 	}
 
+	/**
+	 * Configures the {@link EntityCache} to be used for lookups by id. Entries are invalidated through
+	 * {@link org.springframework.data.r2dbc.core.R2dbcEntityTemplate} when entities are updated or deleted. Configure
+	 * {@link #setEntityOperations(R2dbcEntityOperations) R2dbcEntityOperations} to invalidate the cache also for
+	 * updates and deletes issued outside of the repository. The cache is registered with that template for the domain
+	 * type of the repository and must not be shared with repositories of other domain types.
+	 *
+	 * @param entityCache the cache to use, can be {@literal null}.
+	 * @since 1.2
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
@@ -93,8 +109,15 @@ public class R2dbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	@Override
 	protected final RepositoryFactorySupport createRepositoryFactory() {
 
-		return this.operations != null ? getFactoryInstance(this.operations)
+		RepositoryFactorySupport factory = this.operations != null ? getFactoryInstance(this.operations)
 				: getFactoryInstance(this.client, this.dataAccessStrategy);
+
+		if (this.entityCache != null && factory instanceof R2dbcRepositoryFactory) {
+			EntityCache entityCache = this.entityCache;
+			((R2dbcRepositoryFactory) factory).setEntityCacheFactory(it -> entityCache);
+		}
+
+		return factory;
 	}
 
 	/**
@@ -18,11 +18,16 @@ package org.springframework.data.r2dbc.repository.support;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.reactivestreams.Publisher;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.connectionfactory.ConnectionFactoryUtils;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.data.r2dbc.core.EntityCache;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
@@ -32,11 +37,15 @@ import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.repository.query.RelationalEntityInformation;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
 import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 /**
  * Simple {@link ReactiveSortingRepository} implementation using R2DBC through {@link DatabaseClient}.
+ * <p>
+ * Lookups by id consult the {@link EntityCache} registered with {@link R2dbcEntityTemplate} for the entity type, if
+ * any. Entities loaded outside of a transaction are added to the cache.
  *
  * @author Mark Paluch
  * @author Jens Schauder
@@ -46,6 +55,8 @@ import org.springframework.util.Assert;
 @Transactional(readOnly = true)
 public class SimpleR2dbcRepository<T, ID> implements ReactiveSortingRepository<T, ID> {
 
+	private static final int DELETE_BUFFER_SIZE = 1000;
+
 	private final RelationalEntityInformation<T, ID> entity;
 	private final R2dbcEntityOperations entityOperations;
 	private final Lazy<RelationalPersistentProperty> idProperty;
@@ -136,7 +147,25 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveSortingRepository<T
 
 		Assert.notNull(id, "Id must not be null!");
 
-		return this.entityOperations.selectOne(getIdQuery(id), this.entity.getJavaType());
+		EntityCache entityCache = getEntityCache();
+
+		if (entityCache == null) {
+			return this.entityOperations.selectOne(getIdQuery(id), this.entity.getJavaType());
+		}
+
+		return Mono.defer(() -> {
+
+			T cached = getCached(entityCache, id);
+
+			if (cached != null) {
+				return Mono.just(cached);
+			}
+
+			long generation = entityCache.getGeneration();
+
+			return this.entityOperations.selectOne(getIdQuery(id), this.entity.getJavaType())
+					.flatMap(it -> cacheIfPossible(entityCache, it, generation));
+		});
 	}
 
 	/* (non-Javadoc)
@@ -155,7 +184,20 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveSortingRepository<T
 
 		Assert.notNull(id, "Id must not be null!");
 
-		return this.entityOperations.exists(getIdQuery(id), this.entity.getJavaType());
+		EntityCache entityCache = getEntityCache();
+
+		if (entityCache == null) {
+			return this.entityOperations.exists(getIdQuery(id), this.entity.getJavaType());
+		}
+
+		return Mono.defer(() -> {
+
+			if (getCached(entityCache, id) != null) {
+				return Mono.just(true);
+			}
+
+			return this.entityOperations.exists(getIdQuery(id), this.entity.getJavaType());
+		});
 	}
 
 	/* (non-Javadoc)
@@ -210,12 +252,43 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveSortingRepository<T
 				return Flux.empty();
 			}
 
-			String idProperty = getIdProperty().getName();
+			EntityCache entityCache = getEntityCache();
+
+			if (entityCache == null) {
+				return findAllByIdInternal(ids);
+			}
 
-			return this.entityOperations.select(Query.query(Criteria.where(idProperty).in(ids)), this.entity.getJavaType());
+			List<T> cached = new ArrayList<>(ids.size());
+			List<ID> missing = new ArrayList<>(ids.size());
+
+			for (ID id : ids) {
+
+				T entity = getCached(entityCache, id);
+				if (entity != null) {
+					cached.add(entity);
+				} else {
+					missing.add(id);
+				}
+			}
+
+			if (missing.isEmpty()) {
+				return Flux.fromIterable(cached);
+			}
+
+			long generation = entityCache.getGeneration();
+
+			return Flux.fromIterable(cached).concatWith(
+					findAllByIdInternal(missing).concatMap(it -> cacheIfPossible(entityCache, it, generation)));
 		});
 	}
 
+	private Flux<T> findAllByIdInternal(List<ID> ids) {
+
+		String idProperty = getIdProperty().getName();
+
+		return this.entityOperations.select(Query.query(Criteria.where(idProperty).in(ids)), this.entity.getJavaType());
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#count()
 	 */
@@ -290,10 +363,10 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveSortingRepository<T
 
 		Assert.notNull(objectPublisher, "The Object Publisher must not be null!");
 
-		Flux<ID> idPublisher = Flux.from(objectPublisher) //
-				.map(this.entity::getRequiredId);
-
-		return deleteById(idPublisher);
+		return Flux.from(objectPublisher) //
+				.buffer(DELETE_BUFFER_SIZE) //
+				.concatMap(this.entityOperations::deleteAll) //
+				.then();
 	}
 
 	/* (non-Javadoc)
@@ -305,6 +378,34 @@ public class SimpleR2dbcRepository<T, ID> implements ReactiveSortingRepository<T
 		return this.entityOperations.delete(Query.empty(), this.entity.getJavaType()).then();
 	}
 
+	@Nullable
+	private EntityCache getEntityCache() {
+
+		if (this.entityOperations instanceof R2dbcEntityTemplate) {
+			return ((R2dbcEntityTemplate) this.entityOperations).getEntityCache(this.entity.getJavaType());
+		}
+
+		return null;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private T getCached(EntityCache entityCache, Object id) {
+		return (T) entityCache.get(id);
+	}
+
+	private Mono<T> cacheIfPossible(EntityCache entityCache, T entity, long generation) {
+
+		return ConnectionFactoryUtils.isActualTransactionActive().map(transactional -> {
+
+			if (!transactional) {
+				entityCache.putIfCurrent(this.entity.getRequiredId(entity), entity, generation);
+			}
+
+			return entity;
+		});
+	}
+
 	private RelationalPersistentProperty getIdProperty() {
 		return this.idProperty.get();
 	}
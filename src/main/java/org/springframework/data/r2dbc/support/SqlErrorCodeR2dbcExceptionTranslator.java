@@ -19,7 +19,12 @@ import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.R2dbcException;
 
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.dao.CannotSerializeTransactionException;
@@ -66,6 +71,12 @@ public class SqlErrorCodeR2dbcExceptionTranslator extends AbstractFallbackR2dbcE
 	/** Error codes used by this translator */
 	@Nullable private SQLErrorCodes sqlErrorCodes;
 
+	/** Error categories by error code, derived lazily from {@link #sqlErrorCodes} */
+	@Nullable private volatile ErrorCategories errorCategories;
+
+	/** Number of translated exceptions by exception type */
+	private final Map<Class<? extends DataAccessException>, LongAdder> translationCounts = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@link SqlErrorCodeR2dbcExceptionTranslator}. The {@link SQLErrorCodes} or
 	 * {@link io.r2dbc.spi.ConnectionFactory} property must be set.
@@ -121,6 +132,7 @@ public class SqlErrorCodeR2dbcExceptionTranslator extends AbstractFallbackR2dbcE
 	 */
 	public void setConnectionFactory(ConnectionFactory connectionFactory) {
 		this.sqlErrorCodes = SQLErrorCodesFactory.getInstance().getErrorCodes(connectionFactory.getMetadata().getName());
+		this.errorCategories = null;
 	}
 
 	/**
@@ -134,15 +146,20 @@ public class SqlErrorCodeR2dbcExceptionTranslator extends AbstractFallbackR2dbcE
 	 */
 	public void setDatabaseProductName(String dbName) {
 		this.sqlErrorCodes = SQLErrorCodesFactory.getInstance().getErrorCodes(dbName);
+		this.errorCategories = null;
 	}
 
 	/**
 	 * Set custom error codes to be used for translation.
+	 * <p>
+	 * Error codes are snapshotted when translating the first exception. Changes to the given {@link SQLErrorCodes}
+	 * instance made afterwards are not considered unless the instance is set again.
 	 *
 	 * @param sec custom error codes to use.
 	 */
 	public void setSqlErrorCodes(@Nullable SQLErrorCodes sec) {
 		this.sqlErrorCodes = sec;
+		this.errorCategories = null;
 	}
 
 	/**
@@ -155,10 +172,38 @@ public class SqlErrorCodeR2dbcExceptionTranslator extends AbstractFallbackR2dbcE
 		return this.sqlErrorCodes;
 	}
 
+	/**
+	 * Return the number of exceptions translated by this translator grouped by the type of the resulting
+	 * {@link DataAccessException}. Exceptions handed over to the {@link #getFallbackTranslator() fallback translator} are
+	 * not counted. Counts are suitable to be exposed as metrics.
+	 *
+	 * @return a snapshot of translation counts by exception type.
+	 * @since 1.2
+	 */
+	public Map<Class<? extends DataAccessException>, Long> getTranslationCounts() {
+
+		Map<Class<? extends DataAccessException>, Long> counts = new LinkedHashMap<>();
+		this.translationCounts.forEach((type, count) -> counts.put(type, count.sum()));
+
+		return Collections.unmodifiableMap(counts);
+	}
+
 	@Override
 	@Nullable
 	protected DataAccessException doTranslate(String task, @Nullable String sql, R2dbcException ex) {
 
+		DataAccessException dex = doTranslateErrorCode(task, sql, ex);
+
+		if (dex != null) {
+			this.translationCounts.computeIfAbsent(dex.getClass(), it -> new LongAdder()).increment();
+		}
+
+		return dex;
+	}
+
+	@Nullable
+	private DataAccessException doTranslateErrorCode(String task, @Nullable String sql, R2dbcException ex) {
+
 		R2dbcException translated = ex;
 
 		// First, try custom translation from overridden method.
@@ -167,9 +212,11 @@ public class SqlErrorCodeR2dbcExceptionTranslator extends AbstractFallbackR2dbcE
 			return dex;
 		}
 
+		SQLErrorCodes sqlErrorCodes = this.sqlErrorCodes;
+
 		// Next, try the custom SQLExceptionTranslator, if available.
-		if (this.sqlErrorCodes != null) {
-			SQLExceptionTranslator customTranslator = this.sqlErrorCodes.getCustomSqlExceptionTranslator();
+		if (sqlErrorCodes != null) {
+			SQLExceptionTranslator customTranslator = sqlErrorCodes.getCustomSqlExceptionTranslator();
 			if (customTranslator != null) {
 				DataAccessException customDex = customTranslator.translate(task, sql,
 						new SQLException(ex.getMessage(), ex.getSqlState(), ex));
@@ -180,9 +227,9 @@ public class SqlErrorCodeR2dbcExceptionTranslator extends AbstractFallbackR2dbcE
 		}
 
 		// Check SQLErrorCodes with corresponding error code, if available.
-		if (this.sqlErrorCodes != null) {
+		if (sqlErrorCodes != null) {
 			String errorCode;
-			if (this.sqlErrorCodes.isUseSqlStateForTranslation()) {
+			if (sqlErrorCodes.isUseSqlStateForTranslation()) {
 				errorCode = translated.getSqlState();
 			} else {
 				// Try to find R2dbcException with actual error code, looping through the causes.
@@ -193,46 +240,18 @@ public class SqlErrorCodeR2dbcExceptionTranslator extends AbstractFallbackR2dbcE
 				errorCode = Integer.toString(current.getErrorCode());
 			}
 
-			if (errorCode != null) {
-				// Look for grouped error codes.
-				if (Arrays.binarySearch(this.sqlErrorCodes.getBadSqlGrammarCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, translated);
-					return new BadSqlGrammarException(task, (sql != null ? sql : ""), translated);
-				} else if (Arrays.binarySearch(this.sqlErrorCodes.getInvalidResultSetAccessCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, translated);
-					return new InvalidResultAccessException(task, (sql != null ? sql : ""), translated);
-				} else if (Arrays.binarySearch(this.sqlErrorCodes.getDuplicateKeyCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, translated);
-					return new DuplicateKeyException(buildMessage(task, sql, translated), translated);
-				} else if (Arrays.binarySearch(this.sqlErrorCodes.getDataIntegrityViolationCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, translated);
-					return new DataIntegrityViolationException(buildMessage(task, sql, translated), translated);
-				} else if (Arrays.binarySearch(this.sqlErrorCodes.getPermissionDeniedCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, translated);
-					return new PermissionDeniedDataAccessException(buildMessage(task, sql, translated), translated);
-				} else if (Arrays.binarySearch(this.sqlErrorCodes.getDataAccessResourceFailureCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, translated);
-					return new DataAccessResourceFailureException(buildMessage(task, sql, translated), translated);
-				} else if (Arrays.binarySearch(this.sqlErrorCodes.getTransientDataAccessResourceCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, translated);
-					return new TransientDataAccessResourceException(buildMessage(task, sql, translated), translated);
-				} else if (Arrays.binarySearch(this.sqlErrorCodes.getCannotAcquireLockCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, translated);
-					return new CannotAcquireLockException(buildMessage(task, sql, translated), translated);
-				} else if (Arrays.binarySearch(this.sqlErrorCodes.getDeadlockLoserCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, translated);
-					return new DeadlockLoserDataAccessException(buildMessage(task, sql, translated), translated);
-				} else if (Arrays.binarySearch(this.sqlErrorCodes.getCannotSerializeTransactionCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, translated);
-					return new CannotSerializeTransactionException(buildMessage(task, sql, translated), translated);
-				}
+			ErrorCategory category = errorCode != null ? getErrorCategories(sqlErrorCodes).get(errorCode) : null;
+
+			if (category != null) {
+				logTranslation(task, sql, translated);
+				return createException(category, task, sql, translated);
 			}
 		}
 
 		// We couldn't identify it more precisely - let's hand it over to the SQLState fallback translator.
 		if (logger.isDebugEnabled()) {
 			String codes;
-			if (this.sqlErrorCodes != null && this.sqlErrorCodes.isUseSqlStateForTranslation()) {
+			if (sqlErrorCodes != null && sqlErrorCodes.isUseSqlStateForTranslation()) {
 				codes = "SQL state '" + translated.getSqlState() + "', error code '" + translated.getErrorCode();
 			} else {
 				codes = "Error code '" + translated.getErrorCode() + "'";
@@ -243,6 +262,76 @@ public class SqlErrorCodeR2dbcExceptionTranslator extends AbstractFallbackR2dbcE
 		return null;
 	}
 
+	/**
+	 * Return the error categories by error code. Categories are registered in the order in which error code groups were
+	 * checked so that the first matching group wins if an error code is listed in multiple groups. Categories are
+	 * derived once per {@link SQLErrorCodes} instance and rebuilt if the error codes were replaced in the meantime.
+	 */
+	private Map<String, ErrorCategory> getErrorCategories(SQLErrorCodes sqlErrorCodes) {
+
+		ErrorCategories cached = this.errorCategories;
+
+		if (cached == null || cached.codes != sqlErrorCodes) {
+
+			Map<String, ErrorCategory> categories = new HashMap<>();
+
+			register(categories, sqlErrorCodes.getBadSqlGrammarCodes(), ErrorCategory.BAD_SQL_GRAMMAR);
+			register(categories, sqlErrorCodes.getInvalidResultSetAccessCodes(), ErrorCategory.INVALID_RESULT_ACCESS);
+			register(categories, sqlErrorCodes.getDuplicateKeyCodes(), ErrorCategory.DUPLICATE_KEY);
+			register(categories, sqlErrorCodes.getDataIntegrityViolationCodes(), ErrorCategory.DATA_INTEGRITY_VIOLATION);
+			register(categories, sqlErrorCodes.getPermissionDeniedCodes(), ErrorCategory.PERMISSION_DENIED);
+			register(categories, sqlErrorCodes.getDataAccessResourceFailureCodes(),
+					ErrorCategory.DATA_ACCESS_RESOURCE_FAILURE);
+			register(categories, sqlErrorCodes.getTransientDataAccessResourceCodes(),
+					ErrorCategory.TRANSIENT_DATA_ACCESS_RESOURCE);
+			register(categories, sqlErrorCodes.getCannotAcquireLockCodes(), ErrorCategory.CANNOT_ACQUIRE_LOCK);
+			register(categories, sqlErrorCodes.getDeadlockLoserCodes(), ErrorCategory.DEADLOCK_LOSER);
+			register(categories, sqlErrorCodes.getCannotSerializeTransactionCodes(),
+					ErrorCategory.CANNOT_SERIALIZE_TRANSACTION);
+
+			cached = new ErrorCategories(sqlErrorCodes, categories);
+			this.errorCategories = cached;
+		}
+
+		return cached.categories;
+	}
+
+	private static void register(Map<String, ErrorCategory> categories, String[] codes, ErrorCategory category) {
+
+		for (String code : codes) {
+			categories.putIfAbsent(code, category);
+		}
+	}
+
+	private DataAccessException createException(ErrorCategory category, String task, @Nullable String sql,
+			R2dbcException ex) {
+
+		switch (category) {
+			case BAD_SQL_GRAMMAR:
+				return new BadSqlGrammarException(task, (sql != null ? sql : ""), ex);
+			case INVALID_RESULT_ACCESS:
+				return new InvalidResultAccessException(task, (sql != null ? sql : ""), ex);
+			case DUPLICATE_KEY:
+				return new DuplicateKeyException(buildMessage(task, sql, ex), ex);
+			case DATA_INTEGRITY_VIOLATION:
+				return new DataIntegrityViolationException(buildMessage(task, sql, ex), ex);
+			case PERMISSION_DENIED:
+				return new PermissionDeniedDataAccessException(buildMessage(task, sql, ex), ex);
+			case DATA_ACCESS_RESOURCE_FAILURE:
+				return new DataAccessResourceFailureException(buildMessage(task, sql, ex), ex);
+			case TRANSIENT_DATA_ACCESS_RESOURCE:
+				return new TransientDataAccessResourceException(buildMessage(task, sql, ex), ex);
+			case CANNOT_ACQUIRE_LOCK:
+				return new CannotAcquireLockException(buildMessage(task, sql, ex), ex);
+			case DEADLOCK_LOSER:
+				return new DeadlockLoserDataAccessException(buildMessage(task, sql, ex), ex);
+			case CANNOT_SERIALIZE_TRANSACTION:
+				return new CannotSerializeTransactionException(buildMessage(task, sql, ex), ex);
+			default:
+				throw new IllegalStateException("Unsupported error category: " + category);
+		}
+	}
+
 	/**
 	 * Subclasses can override this method to attempt a custom mapping from {@link R2dbcException} to
 	 * {@link DataAccessException}.
@@ -270,4 +359,28 @@ public class SqlErrorCodeR2dbcExceptionTranslator extends AbstractFallbackR2dbcE
 					+ (sql != null ? "; SQL was [" + sql + "]" : "") + " for task [" + task + "]");
 		}
 	}
+
+	/**
+	 * Error code groups of {@link SQLErrorCodes}.
+	 */
+	private enum ErrorCategory {
+
+		BAD_SQL_GRAMMAR, INVALID_RESULT_ACCESS, DUPLICATE_KEY, DATA_INTEGRITY_VIOLATION, PERMISSION_DENIED, //
+		DATA_ACCESS_RESOURCE_FAILURE, TRANSIENT_DATA_ACCESS_RESOURCE, CANNOT_ACQUIRE_LOCK, DEADLOCK_LOSER, //
+		CANNOT_SERIALIZE_TRANSACTION
+	}
+
+	/**
+	 * Error categories by error code along with the {@link SQLErrorCodes} they were derived from.
+	 */
+	private static class ErrorCategories {
+
+		private final SQLErrorCodes codes;
+		private final Map<String, ErrorCategory> categories;
+
+		ErrorCategories(SQLErrorCodes codes, Map<String, ErrorCategory> categories) {
+			this.codes = codes;
+			this.categories = categories;
+		}
+	}
 }
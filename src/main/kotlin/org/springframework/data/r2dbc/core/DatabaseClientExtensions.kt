@@ -15,7 +15,6 @@
  */
 package org.springframework.data.r2dbc.core
 
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 import org.springframework.data.r2dbc.mapping.SettableValue
 
 /**
@@ -24,7 +23,7 @@ import org.springframework.data.r2dbc.mapping.SettableValue
  * @author Sebastien Deleuze
  */
 suspend fun DatabaseClient.GenericExecuteSpec.await() {
-	then().awaitFirstOrNull()
+	then().awaitValueOrNull()
 }
 
 /**
@@ -87,7 +86,7 @@ inline fun <reified T : Any> DatabaseClient.GenericSelectSpec.asType(): Database
  * @author Sebastien Deleuze
  */
 suspend fun <T> DatabaseClient.TypedExecuteSpec<T>.await() {
-	then().awaitFirstOrNull()
+	then().awaitValueOrNull()
 }
 
 /**
@@ -105,7 +104,7 @@ inline fun <reified T : Any> DatabaseClient.TypedExecuteSpec<T>.asType(): Databa
  * @author Sebastien Deleuze
  */
 suspend fun <T> DatabaseClient.InsertSpec<T>.await() {
-	then().awaitFirstOrNull()
+	then().awaitValueOrNull()
 }
 
 /**
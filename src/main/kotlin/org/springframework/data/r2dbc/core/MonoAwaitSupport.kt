@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core
+
+import kotlinx.coroutines.reactor.ReactorContext
+import kotlinx.coroutines.suspendCancellableCoroutine
+import org.reactivestreams.Subscription
+import reactor.core.CoreSubscriber
+import reactor.core.publisher.Mono
+import reactor.util.context.Context
+import kotlin.coroutines.resume
+import kotlin.coroutines.resumeWithException
+
+/**
+ * Await the value of a [Mono] by subscribing with a single [CoreSubscriber] that resumes the coroutine. The
+ * [ReactorContext] of the calling coroutine is propagated as subscriber context.
+ *
+ * Unlike the generic `Publisher` bridge, awaiting does not cancel the subscription after receiving a value because a
+ * [Mono] completes after emitting at most one value.
+ *
+ * @since 1.2
+ */
+@PublishedApi
+internal suspend fun <T> Mono<T>.awaitValueOrNull(): T? = suspendCancellableCoroutine { continuation ->
+
+	val context = continuation.context[ReactorContext]?.context ?: Context.empty()
+
+	subscribe(object : CoreSubscriber<T> {
+
+		private var value: T? = null
+
+		override fun currentContext(): Context = context
+
+		override fun onSubscribe(subscription: Subscription) {
+			continuation.invokeOnCancellation { subscription.cancel() }
+			subscription.request(Long.MAX_VALUE)
+		}
+
+		override fun onNext(t: T) {
+			value = t
+		}
+
+		override fun onError(t: Throwable) {
+			continuation.resumeWithException(t)
+		}
+
+		override fun onComplete() {
+			continuation.resume(value)
+		}
+	})
+}
+
+/**
+ * Non-nullable variant of [awaitValueOrNull] throwing [NoSuchElementException] if the [Mono] completes without a
+ * value.
+ *
+ * @since 1.2
+ */
+@PublishedApi
+internal suspend fun <T> Mono<T>.awaitValue(): T =
+		awaitValueOrNull() ?: throw NoSuchElementException("No value received from Mono")
@@ -15,7 +15,6 @@
  */
 package org.springframework.data.r2dbc.core
 
-import kotlinx.coroutines.reactive.awaitSingle
 
 /**
  * Extensions for [ReactiveDeleteOperation].
@@ -34,4 +33,4 @@ inline fun <reified T : Any> ReactiveDeleteOperation.delete(): ReactiveDeleteOpe
  * Coroutines variant of [ReactiveDeleteOperation.TerminatingDelete.all].
  */
 suspend fun ReactiveDeleteOperation.TerminatingDelete.allAndAwait(): Int =
-		all().awaitSingle()
+		all().awaitValue()
@@ -15,7 +15,6 @@
  */
 package org.springframework.data.r2dbc.core
 
-import kotlinx.coroutines.reactive.awaitSingle
 
 /**
  * Extensions for [ReactiveInsertOperation].
@@ -34,4 +33,4 @@ inline fun <reified T : Any> ReactiveInsertOperation.insert(): ReactiveInsertOpe
  * Coroutines variant of [ReactiveInsertOperation.TerminatingInsert.using].
  */
 suspend inline fun <reified T : Any> ReactiveInsertOperation.TerminatingInsert<T>.usingAndAwait(o: T): T =
-		using(o).awaitSingle()
+		using(o).awaitValue()
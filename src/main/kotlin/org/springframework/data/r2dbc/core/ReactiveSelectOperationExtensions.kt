@@ -17,8 +17,6 @@ package org.springframework.data.r2dbc.core
 
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
-import kotlinx.coroutines.reactive.awaitSingle
 
 /**
  * Extensions for [ReactiveSelectOperation].
@@ -43,37 +41,37 @@ inline fun <reified T : Any> ReactiveSelectOperation.SelectWithProjection<*>.asT
  * Non-nullable Coroutines variant of [ReactiveSelectOperation.TerminatingSelect.one].
  */
 suspend inline fun <reified T : Any> ReactiveSelectOperation.TerminatingSelect<T>.awaitOne(): T =
-		one().awaitSingle()
+		one().awaitValue()
 
 /**
  * Nullable Coroutines variant of [ReactiveSelectOperation.TerminatingSelect.one].
  */
 suspend inline fun <reified T : Any> ReactiveSelectOperation.TerminatingSelect<T>.awaitOneOrNull(): T? =
-		one().awaitFirstOrNull()
+		one().awaitValueOrNull()
 
 /**
  * Non-nullable Coroutines variant of [ReactiveSelectOperation.TerminatingSelect.first].
  */
 suspend inline fun <reified T : Any> ReactiveSelectOperation.TerminatingSelect<T>.awaitFirst(): T =
-		first().awaitSingle()
+		first().awaitValue()
 
 /**
  * Nullable Coroutines variant of [ReactiveSelectOperation.TerminatingSelect.first].
  */
 suspend inline fun <reified T : Any> ReactiveSelectOperation.TerminatingSelect<T>.awaitFirstOrNull(): T? =
-		first().awaitFirstOrNull()
+		first().awaitValueOrNull()
 
 /**
  * Coroutines variant of [ReactiveSelectOperation.TerminatingSelect.count].
  */
 suspend fun <T : Any> ReactiveSelectOperation.TerminatingSelect<T>.awaitCount(): Long =
-		count().awaitSingle()
+		count().awaitValue()
 
 /**
  * Coroutines variant of [ReactiveSelectOperation.TerminatingSelect.exists].
  */
 suspend fun <T : Any> ReactiveSelectOperation.TerminatingSelect<T>.awaitExists(): Boolean =
-		exists().awaitSingle()
+		exists().awaitValue()
 
 /**
  * Coroutines [Flow] variant of [ReactiveSelectOperation.TerminatingSelect.all].
@@ -15,7 +15,6 @@
  */
 package org.springframework.data.r2dbc.core
 
-import kotlinx.coroutines.reactive.awaitSingle
 import org.springframework.data.relational.core.query.Update
 
 /**
@@ -34,4 +33,4 @@ inline fun <reified T : Any> ReactiveUpdateOperation.update(): ReactiveUpdateOpe
 /**
  * Coroutines variant of [ReactiveUpdateOperation.TerminatingUpdate.apply].
  */
-suspend fun ReactiveUpdateOperation.TerminatingUpdate.applyAndAwait(update: Update): Int = apply(update).awaitSingle()
+suspend fun ReactiveUpdateOperation.TerminatingUpdate.applyAndAwait(update: Update): Int = apply(update).awaitValue()
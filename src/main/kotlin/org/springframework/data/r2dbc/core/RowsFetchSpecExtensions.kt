@@ -17,7 +17,6 @@ package org.springframework.data.r2dbc.core
 
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 import org.springframework.dao.EmptyResultDataAccessException
 
 /**
@@ -26,7 +25,7 @@ import org.springframework.dao.EmptyResultDataAccessException
  * @author Sebastien Deleuze
  */
 suspend fun <T> RowsFetchSpec<T>.awaitOne(): T {
-	return one().awaitFirstOrNull() ?: throw EmptyResultDataAccessException(1)
+	return one().awaitValueOrNull() ?: throw EmptyResultDataAccessException(1)
 }
 
 /**
@@ -35,7 +34,7 @@ suspend fun <T> RowsFetchSpec<T>.awaitOne(): T {
  * @author Sebastien Deleuze
  */
 suspend fun <T> RowsFetchSpec<T>.awaitOneOrNull(): T? =
-		one().awaitFirstOrNull()
+		one().awaitValueOrNull()
 
 /**
  * Non-nullable Coroutines variant of [RowsFetchSpec.first].
@@ -43,7 +42,7 @@ suspend fun <T> RowsFetchSpec<T>.awaitOneOrNull(): T? =
  * @author Sebastien Deleuze
  */
 suspend fun <T> RowsFetchSpec<T>.awaitFirst(): T {
-	return first().awaitFirstOrNull() ?: throw EmptyResultDataAccessException(1)
+	return first().awaitValueOrNull() ?: throw EmptyResultDataAccessException(1)
 }
 
 /**
@@ -52,7 +51,7 @@ suspend fun <T> RowsFetchSpec<T>.awaitFirst(): T {
  * @author Sebastien Deleuze
  */
 suspend fun <T> RowsFetchSpec<T>.awaitFirstOrNull(): T? =
-		first().awaitFirstOrNull()
+		first().awaitValueOrNull()
 
 /**
  * Coroutines [Flow] variant of [RowsFetchSpec.all].
@@ -15,7 +15,6 @@
  */
 package org.springframework.data.r2dbc.core
 
-import kotlinx.coroutines.reactive.awaitSingle
 
 /**
  * Coroutines variant of [UpdatedRowsFetchSpec.rowsUpdated].
@@ -23,4 +22,4 @@ import kotlinx.coroutines.reactive.awaitSingle
  * @author Fred Montariol
  */
 suspend fun UpdatedRowsFetchSpec.awaitRowsUpdated(): Int =
-		rowsUpdated().awaitSingle()
+		rowsUpdated().awaitValue()
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.connectionfactory;
+
+import reactor.test.StepVerifier;
+
+import org.junit.Test;
+
+import org.springframework.data.r2dbc.testing.StatementRecorder;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Unit tests for {@link ConnectionFactoryUtils}.
+ */
+public class ConnectionFactoryUtilsUnitTests {
+
+	@Test
+	public void shouldReportNoActualTransactionOutsideOfTransaction() {
+
+		ConnectionFactoryUtils.isActualTransactionActive() //
+				.as(StepVerifier::create) //
+				.expectNext(false) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldReportActualTransactionWithinTransaction() {
+
+		TransactionalOperator transactionalOperator = TransactionalOperator
+				.create(new R2dbcTransactionManager(StatementRecorder.newInstance()));
+
+		ConnectionFactoryUtils.isActualTransactionActive() //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+	}
+}
@@ -32,8 +32,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import org.springframework.data.r2dbc.BadSqlGrammarException;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.transaction.IllegalTransactionStateException;
 import org.springframework.transaction.TransactionDefinition;
@@ -236,6 +238,75 @@ public class R2dbcTransactionManagerUnitTests {
 		verifyNoMoreInteractions(connectionMock);
 	}
 
+	@Test
+	public void appliesIsolationLevelAndReadOnlyAfterBeginTransaction() {
+
+		when(connectionMock.commitTransaction()).thenReturn(Mono.empty());
+		Statement statement = mock(Statement.class);
+		when(connectionMock.createStatement(anyString())).thenReturn(statement);
+		when(statement.execute()).thenReturn(Mono.empty());
+		tm.setEnforceReadOnly(true);
+		tm.setDialect(PostgresDialect.INSTANCE);
+
+		DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+		definition.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+		definition.setReadOnly(true);
+
+		TransactionalOperator operator = TransactionalOperator.create(tm, definition);
+
+		ConnectionFactoryUtils.getConnection(connectionFactoryMock).as(operator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		InOrder inOrder = inOrder(connectionMock);
+		inOrder.verify(connectionMock).isAutoCommit();
+		inOrder.verify(connectionMock).beginTransaction();
+		inOrder.verify(connectionMock).createStatement("SET TRANSACTION ISOLATION LEVEL SERIALIZABLE, READ ONLY");
+		inOrder.verify(connectionMock).commitTransaction();
+		verify(connectionMock).close();
+		verifyNoMoreInteractions(connectionMock);
+	}
+
+	@Test
+	public void lazyTransactionBeginShouldNotObtainConnectionIfUnused() {
+
+		tm.setLazyTransactionBegin(true);
+
+		TransactionalOperator operator = TransactionalOperator.create(tm);
+
+		Mono.just("cached").as(operator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNext("cached") //
+				.verifyComplete();
+
+		verify(connectionFactoryMock, never()).create();
+		verifyNoInteractions(connectionMock);
+	}
+
+	@Test
+	public void lazyTransactionBeginShouldBeginTransactionOnFirstConnectionAccess() {
+
+		when(connectionMock.commitTransaction()).thenReturn(Mono.empty());
+		tm.setLazyTransactionBegin(true);
+
+		TransactionalOperator operator = TransactionalOperator.create(tm);
+
+		ConnectionFactoryUtils.getConnection(connectionFactoryMock)
+				.flatMap(it -> ConnectionFactoryUtils.getConnection(connectionFactoryMock).map(other -> it == other)) //
+				.as(operator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		verify(connectionFactoryMock).create();
+		verify(connectionMock).isAutoCommit();
+		verify(connectionMock).beginTransaction();
+		verify(connectionMock).commitTransaction();
+		verify(connectionMock).close();
+		verifyNoMoreInteractions(connectionMock);
+	}
+
 	@Test // gh-107
 	public void testCommitFails() {
 
@@ -18,6 +18,7 @@ package org.springframework.data.r2dbc.connectionfactory.init;
 import static org.mockito.Mockito.*;
 
 import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -27,6 +28,9 @@ import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.springframework.data.r2dbc.connectionfactory.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
 /**
  * Unit tests for {@link CompositeDatabasePopulator}.
  *
@@ -109,4 +113,55 @@ public class CompositeDatabasePopulatorTests {
 		verify(mockedDatabasePopulator1, times(1)).populate(mockedConnection);
 		verify(mockedDatabasePopulator2, times(1)).populate(mockedConnection);
 	}
+
+	@Test
+	public void executesPopulatorGroupsOnSeparateConnections() {
+
+		ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+		DatabasePopulator mockedDatabasePopulator3 = mock(DatabasePopulator.class);
+
+		when(connectionFactory.create()).thenReturn((Mono) Mono.just(mockedConnection));
+		when(mockedConnection.close()).thenReturn(Mono.empty());
+		when(mockedDatabasePopulator3.populate(mockedConnection)).thenReturn(Mono.empty());
+
+		CompositeDatabasePopulator populator = new CompositeDatabasePopulator();
+		populator.addPopulatorGroup(mockedDatabasePopulator1, mockedDatabasePopulator2);
+		populator.addPopulators(mockedDatabasePopulator3);
+		populator.setParallelism(2);
+
+		DatabasePopulatorUtils.execute(populator, connectionFactory).as(StepVerifier::create).verifyComplete();
+
+		verify(connectionFactory, times(3)).create();
+		verify(mockedDatabasePopulator1, times(1)).populate(mockedConnection);
+		verify(mockedDatabasePopulator2, times(1)).populate(mockedConnection);
+		verify(mockedDatabasePopulator3, times(1)).populate(mockedConnection);
+	}
+
+	@Test
+	public void executesPopulatorGroupsOnConnectionsIndependentOfTransaction() {
+
+		ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+		Connection transactionalConnection = mock(Connection.class);
+
+		when(connectionFactory.create()).thenReturn((Mono) Mono.just(transactionalConnection),
+				(Mono) Mono.just(mockedConnection));
+		when(transactionalConnection.beginTransaction()).thenReturn(Mono.empty());
+		when(transactionalConnection.commitTransaction()).thenReturn(Mono.empty());
+		when(transactionalConnection.close()).thenReturn(Mono.empty());
+		when(mockedConnection.close()).thenReturn(Mono.empty());
+
+		CompositeDatabasePopulator populator = new CompositeDatabasePopulator();
+		populator.addPopulatorGroup(mockedDatabasePopulator1, mockedDatabasePopulator2);
+		populator.setParallelism(2);
+
+		TransactionalOperator operator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+
+		DatabasePopulatorUtils.execute(populator, connectionFactory).as(operator::transactional)
+				.as(StepVerifier::create).verifyComplete();
+
+		verify(connectionFactory, times(3)).create();
+		verify(mockedDatabasePopulator1, times(1)).populate(mockedConnection);
+		verify(mockedDatabasePopulator2, times(1)).populate(mockedConnection);
+		verify(mockedConnection, times(2)).close();
+	}
 }
@@ -18,8 +18,15 @@ package org.springframework.data.r2dbc.connectionfactory.init;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
 import org.junit.Test;
 
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 
 /**
@@ -107,4 +114,139 @@ public class ResourceDatabasePopulatorUnitTests {
 		databasePopulator.addScript(script3);
 		assertThat(databasePopulator.scripts.size()).isEqualTo(3);
 	}
+
+	@Test
+	public void shouldExecuteStatementsInBatchesWithinTransaction() {
+
+		Connection connection = mock(Connection.class);
+		Batch batch = mock(Batch.class);
+		Statement statement = mock(Statement.class);
+
+		when(connection.beginTransaction()).thenReturn(Mono.empty());
+		when(connection.commitTransaction()).thenReturn(Mono.empty());
+		when(connection.createBatch()).thenReturn(batch);
+		when(batch.add(anyString())).thenReturn(batch);
+		when(batch.execute()).thenReturn(Mono.empty());
+		when(connection.createStatement(anyString())).thenReturn(statement);
+		when(statement.execute()).thenReturn(Mono.empty());
+
+		ResourceDatabasePopulator databasePopulator = new ResourceDatabasePopulator(
+				new ByteArrayResource("INSERT 1;INSERT 2;INSERT 3".getBytes()));
+		databasePopulator.setBatchSize(2);
+		databasePopulator.setTransactional(true);
+
+		databasePopulator.populate(connection) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		verify(connection).beginTransaction();
+		verify(batch).add("INSERT 1");
+		verify(batch).add("INSERT 2");
+		verify(connection).createStatement("INSERT 3");
+		verify(connection).commitTransaction();
+		verify(connection, never()).rollbackTransaction();
+	}
+
+	@Test
+	public void shouldExecuteFailedBatchIndividuallyWhenContinuingOnError() {
+
+		Connection connection = mock(Connection.class);
+		Batch batch = mock(Batch.class);
+		Statement statement = mock(Statement.class);
+		Statement failing = mock(Statement.class);
+
+		when(connection.createBatch()).thenReturn(batch);
+		when(batch.add(anyString())).thenReturn(batch);
+		when(batch.execute()).thenReturn(Mono.error(new IllegalStateException("batch failed")));
+		when(connection.createStatement("INSERT 1")).thenReturn(failing);
+		when(failing.execute()).thenReturn(Mono.error(new IllegalStateException("statement failed")));
+		when(connection.createStatement("INSERT 2")).thenReturn(statement);
+		when(statement.execute()).thenReturn(Mono.empty());
+
+		ResourceDatabasePopulator databasePopulator = new ResourceDatabasePopulator(
+				new ByteArrayResource("INSERT 1;INSERT 2".getBytes()));
+		databasePopulator.setBatchSize(2);
+		databasePopulator.setContinueOnError(true);
+
+		databasePopulator.populate(connection) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		verify(connection).createBatch();
+		verify(connection).createStatement("INSERT 1");
+		verify(connection).createStatement("INSERT 2");
+	}
+
+	@Test
+	public void shouldReportFailedBatchWithoutErrorPolicy() {
+
+		Connection connection = mock(Connection.class);
+		Batch batch = mock(Batch.class);
+
+		when(connection.createBatch()).thenReturn(batch);
+		when(batch.add(anyString())).thenReturn(batch);
+		when(batch.execute()).thenReturn(Mono.error(new IllegalStateException("batch failed")));
+
+		ResourceDatabasePopulator databasePopulator = new ResourceDatabasePopulator(
+				new ByteArrayResource("INSERT 1;INSERT 2".getBytes()));
+		databasePopulator.setBatchSize(2);
+
+		databasePopulator.populate(connection) //
+				.as(StepVerifier::create) //
+				.verifyError(ScriptStatementFailedException.class);
+
+		verify(connection, never()).createStatement(anyString());
+	}
+
+	@Test
+	public void shouldRetainScriptFailureWhenRollbackFails() {
+
+		Connection connection = mock(Connection.class);
+		Statement statement = mock(Statement.class);
+		IllegalStateException rollbackFailure = new IllegalStateException("rollback failed");
+
+		when(connection.beginTransaction()).thenReturn(Mono.empty());
+		when(connection.rollbackTransaction()).thenReturn(Mono.error(rollbackFailure));
+		when(connection.createStatement(anyString())).thenReturn(statement);
+		when(statement.execute()).thenReturn(Mono.error(new IllegalStateException("statement failed")));
+
+		ResourceDatabasePopulator databasePopulator = new ResourceDatabasePopulator(
+				new ByteArrayResource("INSERT 1".getBytes()));
+		databasePopulator.setTransactional(true);
+
+		databasePopulator.populate(connection) //
+				.as(StepVerifier::create) //
+				.consumeErrorWith(actual -> {
+
+					assertThat(actual).isInstanceOf(ScriptStatementFailedException.class);
+					assertThat(actual.getSuppressed()).containsExactly(rollbackFailure);
+				}) //
+				.verify();
+
+		verify(connection, never()).commitTransaction();
+	}
+
+	@Test
+	public void shouldRollbackWhenCancelled() {
+
+		Connection connection = mock(Connection.class);
+		Statement statement = mock(Statement.class);
+
+		when(connection.beginTransaction()).thenReturn(Mono.empty());
+		when(connection.rollbackTransaction()).thenReturn(Mono.empty());
+		when(connection.createStatement(anyString())).thenReturn(statement);
+		when(statement.execute()).thenReturn(Mono.never());
+
+		ResourceDatabasePopulator databasePopulator = new ResourceDatabasePopulator(
+				new ByteArrayResource("INSERT 1".getBytes()));
+		databasePopulator.setTransactional(true);
+
+		databasePopulator.populate(connection) //
+				.as(StepVerifier::create) //
+				.thenCancel() //
+				.verify();
+
+		verify(connection).rollbackTransaction();
+		verify(connection, never()).commitTransaction();
+	}
 }
@@ -17,6 +17,8 @@ package org.springframework.data.r2dbc.connectionfactory.init;
 
 import static org.assertj.core.api.Assertions.*;
 
+import reactor.test.StepVerifier;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -178,6 +180,50 @@ public class ScriptUtilsUnitTests {
 		assertThat(statements).hasSize(2).containsSequence(statement1, statement2);
 	}
 
+	@Test
+	public void readStatementsContainingComments() {
+
+		EncodedResource resource = new EncodedResource(new ClassPathResource("test-data-with-comments.sql", getClass()));
+
+		ScriptUtils
+				.readStatements(resource, new DefaultDataBufferFactory(), ScriptUtils.DEFAULT_COMMENT_PREFIX, null,
+						ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER, ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER) //
+				.as(StepVerifier::create) //
+				.expectNext("insert into customer (id, name) values (1, 'Rod; Johnson'), (2, 'Adrian Collier')") //
+				.expectNext("insert into orders(id, order_date, customer_id) values (1, '2008-01-02', 2)") //
+				.expectNext("insert into orders(id, order_date, customer_id) values (1, '2008-01-02', 2)") //
+				.expectNext("INSERT INTO persons( person_id , name) VALUES( 1 , 'Name' )") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void readStatementsFallsBackToNewLineSeparator() {
+
+		EncodedResource resource = new EncodedResource(new ClassPathResource("db-test-data-multi-newline.sql", getClass()));
+
+		ScriptUtils
+				.readStatements(resource, new DefaultDataBufferFactory(), ScriptUtils.DEFAULT_COMMENT_PREFIX, null,
+						ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER, ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER) //
+				.as(StepVerifier::create) //
+				.expectNext("insert into users (last_name)", "values ('Walter')") //
+				.expectNext("insert into users (last_name)", "values ('Jesse')") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void splitterShouldEmitStatementsIncrementally() {
+
+		ScriptStatementSplitter splitter = ScriptStatementSplitter.forSeparator(null, ";",
+				ScriptUtils.DEFAULT_COMMENT_PREFIX, ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+				ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER);
+
+		assertThat(splitter.feed("select 1; sel")).containsExactly("select 1");
+		assertThat(splitter.feed("ect ';' /* comm")).isEmpty();
+		assertThat(splitter.feed("ent */; ")).containsExactly("select ';' ");
+		assertThat(splitter.feed("select 3")).isEmpty();
+		assertThat(splitter.complete()).containsExactly("select 3");
+	}
+
 	@Test
 	public void containsDelimiters() {
 
@@ -18,9 +18,15 @@ package org.springframework.data.r2dbc.convert;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.Clob;
 import io.r2dbc.spi.Row;
 import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -189,6 +195,91 @@ public class MappingR2dbcConverterUnitTests {
 		assertThat(result.entity).isNotNull();
 	}
 
+	@Test
+	public void shouldWriteStreamsAsLargeObjects() {
+
+		WithLobs withLobs = new WithLobs(Flux.just(ByteBuffer.wrap(new byte[] { 1, 2 })), Flux.just("foo", "bar"));
+		OutboundRow row = new OutboundRow();
+		converter.write(withLobs, row);
+
+		assertThat(row.get(SqlIdentifier.unquoted("content")).getValue()).isInstanceOf(Blob.class);
+		assertThat(row.get(SqlIdentifier.unquoted("text")).getValue()).isInstanceOf(Clob.class);
+
+		Flux.from(((Clob) row.get(SqlIdentifier.unquoted("text")).getValue()).stream()) //
+				.map(CharSequence::toString) //
+				.as(StepVerifier::create) //
+				.expectNext("foo", "bar") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldWriteNullStreamsAsLargeObjectTypes() {
+
+		OutboundRow row = new OutboundRow();
+		converter.write(new WithLobs(null, null), row);
+
+		assertThat(row).containsEntry(SqlIdentifier.unquoted("content"), SettableValue.empty(Blob.class));
+		assertThat(row).containsEntry(SqlIdentifier.unquoted("text"), SettableValue.empty(Clob.class));
+	}
+
+	@Test
+	public void shouldReadLargeObjectsAsStreams() {
+
+		Row rowMock = mock(Row.class);
+		when(rowMock.get("content", Blob.class))
+				.thenReturn(Blob.from(Flux.just(ByteBuffer.wrap(new byte[] { 1, 2 }))));
+		when(rowMock.get("text", Clob.class)).thenReturn(Clob.from(Flux.just("foo", "bar")));
+
+		WithLobs result = converter.read(WithLobs.class, rowMock);
+
+		result.content.map(ByteBuffer::remaining) //
+				.as(StepVerifier::create) //
+				.expectNext(2) //
+				.verifyComplete();
+
+		result.text.as(StepVerifier::create) //
+				.expectNext("foo", "bar") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldDiscardLargeObjectWhenCancelled() {
+
+		Blob blob = mock(Blob.class);
+		when(blob.stream()).thenReturn(Flux.just(ByteBuffer.wrap(new byte[] { 1 }), ByteBuffer.wrap(new byte[] { 2 })));
+		when(blob.discard()).thenReturn(Mono.empty());
+
+		Row rowMock = mock(Row.class);
+		when(rowMock.get("content", Blob.class)).thenReturn(blob);
+
+		WithLobs result = converter.read(WithLobs.class, rowMock);
+
+		StepVerifier.create(result.content, 1) //
+				.expectNextCount(1) //
+				.thenCancel() //
+				.verify();
+
+		verify(blob).discard();
+	}
+
+	@Test
+	public void shouldNotDiscardConsumedLargeObject() {
+
+		Blob blob = mock(Blob.class);
+		when(blob.stream()).thenReturn(Flux.just(ByteBuffer.wrap(new byte[] { 1 })));
+
+		Row rowMock = mock(Row.class);
+		when(rowMock.get("content", Blob.class)).thenReturn(blob);
+
+		WithLobs result = converter.read(WithLobs.class, rowMock);
+
+		result.content.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		verify(blob, never()).discard();
+	}
+
 	@AllArgsConstructor
 	static class Person {
 		@Id String id;
@@ -222,6 +313,13 @@ public class MappingR2dbcConverterUnitTests {
 
 	static class NonMappableEntity {}
 
+	@AllArgsConstructor
+	static class WithLobs {
+
+		Flux<ByteBuffer> content;
+		Flux<String> text;
+	}
+
 	@ReadingConverter
 	enum StringToMapConverter implements Converter<String, Map<String, String>> {
 
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.r2dbc.spi.test.MockColumnMetadata;
+import io.r2dbc.spi.test.MockResult;
+import io.r2dbc.spi.test.MockRow;
+import io.r2dbc.spi.test.MockRowMetadata;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.connectionfactory.R2dbcTransactionManager;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.testing.StatementRecorder;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Unit tests for {@link BlockingR2dbcEntityTemplate}.
+ */
+public class BlockingR2dbcEntityTemplateUnitTests {
+
+	StatementRecorder recorder;
+	BlockingR2dbcEntityTemplate template;
+	TransactionalOperator transactionalOperator;
+
+	@Before
+	public void before() {
+
+		recorder = StatementRecorder.newInstance();
+		DatabaseClient client = DatabaseClient.builder().connectionFactory(recorder)
+				.dataAccessStrategy(new DefaultReactiveDataAccessStrategy(PostgresDialect.INSTANCE)).build();
+		template = new BlockingR2dbcEntityTemplate(new R2dbcEntityTemplate(client));
+		transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(recorder));
+	}
+
+	@Test
+	public void shouldCount() {
+
+		stubCount();
+
+		assertThat(template.count(Query.query(Criteria.where("name").is("Walter")), Person.class)).isEqualTo(2L);
+	}
+
+	@Test
+	public void shouldSelectAsStream() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().columnMetadata(MockColumnMetadata.builder().name("id").build())
+				.columnMetadata(MockColumnMetadata.builder().name("name").build()).build();
+		MockResult result = MockResult.builder().rowMetadata(metadata)
+				.row(MockRow.builder().identified("id", Object.class, "1").identified("name", Object.class, "Walter").build())
+				.row(MockRow.builder().identified("id", Object.class, "2").identified("name", Object.class, "Jesse").build())
+				.build();
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
+
+		List<String> names;
+		try (Stream<Person> stream = template.select(Query.empty(), Person.class)) {
+			names = stream.map(it -> it.name).collect(Collectors.toList());
+		}
+
+		assertThat(names).containsExactly("Walter", "Jesse");
+	}
+
+	@Test
+	public void shouldReturnNullForEmptySelectOne() {
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), Collections.emptyList());
+
+		assertThat(template.selectOne(Query.empty(), Person.class)).isNull();
+	}
+
+	@Test
+	public void shouldRunOperationsOnTransactionalConnection() {
+
+		stubCount();
+
+		long count = template.inTransaction(transactionalOperator,
+				it -> it.count(Query.empty(), Person.class) + it.count(Query.empty(), Person.class));
+
+		assertThat(count).isEqualTo(4L);
+		assertThat(getCreatedSql()).containsExactly("BEGIN", "SELECT COUNT(person.id) FROM person",
+				"SELECT COUNT(person.id) FROM person", "COMMIT", "CLOSE");
+	}
+
+	@Test
+	public void shouldRollbackTransactionOnException() {
+
+		stubCount();
+
+		assertThatThrownBy(() -> template.inTransaction(transactionalOperator, it -> {
+
+			it.count(Query.empty(), Person.class);
+			throw new IllegalStateException("Boom");
+		})).isInstanceOf(IllegalStateException.class).hasMessage("Boom");
+
+		assertThat(getCreatedSql()).containsExactly("BEGIN", "SELECT COUNT(person.id) FROM person", "ROLLBACK",
+				"CLOSE");
+	}
+
+	private void stubCount() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("name").build()).build();
+		MockResult result = MockResult.builder().rowMetadata(metadata)
+				.row(MockRow.builder().identified(0, Long.class, 2L).build()).build();
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
+	}
+
+	private List<String> getCreatedSql() {
+		return recorder.getCreatedStatements().stream().map(StatementRecorder.RecordedStatement::getSql)
+				.collect(Collectors.toList());
+	}
+
+	static class Person {
+
+		@Id String id;
+
+		String name;
+	}
+}
@@ -32,7 +32,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -45,6 +47,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.r2dbc.dialect.PostgresDialect;
@@ -501,6 +504,72 @@ public class DefaultDatabaseClientUnitTests {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	public void shouldCacheQueryResults() {
+
+		Statement statement = mockStatement();
+		MockResult result = mockSingleColumnResult(MockRow.builder().identified(0, Object.class, "Walter"));
+		AtomicInteger executions = new AtomicInteger();
+
+		DatabaseClient databaseClient = databaseClientBuilder //
+				.executeFunction(it -> {
+					executions.incrementAndGet();
+					return Mono.just(result);
+				}) //
+				.build();
+
+		for (int i = 0; i < 2; i++) {
+
+			databaseClient.execute("SELECT * FROM person WHERE name = :name") //
+					.bind("name", "Walter") //
+					.cache(Duration.ofMinutes(1)) //
+					.fetch().all() //
+					.as(StepVerifier::create) //
+					.expectNextCount(1).verifyComplete();
+		}
+
+		assertThat(executions).hasValue(1);
+
+		databaseClient.execute("SELECT * FROM person WHERE name = :name") //
+				.bind("name", "Jesse") //
+				.cache(Duration.ofMinutes(1)) //
+				.fetch().all() //
+				.as(StepVerifier::create) //
+				.expectNextCount(1).verifyComplete();
+
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	public void shouldFailWithQueryTimeoutAndReleaseConnection() {
+
+		Statement statement = mockStatement();
+		doReturn(Flux.never()).when(statement).execute();
+
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.execute("SELECT * FROM person") //
+				.timeout(Duration.ofMillis(50)) //
+				.fetch().all() //
+				.as(StepVerifier::create) //
+				.verifyError(QueryTimeoutException.class);
+
+		verify(connection).close();
+	}
+
+	@Test
+	public void queryTimeoutShouldNotApplyToConsumptionOfEmittedRows() {
+
+		StepVerifier
+				.withVirtualTime(() -> TimeoutFetchSpec.withTimeout(Flux.just(1, 2), Duration.ofSeconds(1), "Query [SELECT]"), 0) //
+				.thenRequest(1) //
+				.expectNext(1) //
+				.thenAwait(Duration.ofSeconds(2)) //
+				.thenRequest(1) //
+				.expectNext(2) //
+				.verifyComplete();
+	}
+
 	private Statement mockStatement() {
 		return mockStatementFor(null, null);
 	}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.junit.Test;
+
+import org.springframework.data.r2dbc.core.EntityCache.EvictionPolicy;
+
+/**
+ * Unit tests for {@link EntityCache}.
+ */
+public class EntityCacheUnitTests {
+
+	@Test
+	public void shouldCacheValues() {
+
+		EntityCache cache = new EntityCache(10, Duration.ZERO, EvictionPolicy.LRU);
+
+		assertThat(cache.putIfCurrent(1L, "Walter", cache.getGeneration())).isTrue();
+
+		assertThat(cache.get(1L)).isEqualTo("Walter");
+		assertThat(cache.get(2L)).isNull();
+	}
+
+	@Test
+	public void shouldNotCacheValuesAfterInvalidation() {
+
+		EntityCache cache = new EntityCache(10, Duration.ZERO, EvictionPolicy.LRU);
+
+		long generation = cache.getGeneration();
+		cache.evict(1L);
+
+		assertThat(cache.putIfCurrent(1L, "Walter", generation)).isFalse();
+		assertThat(cache.get(1L)).isNull();
+	}
+
+	@Test
+	public void shouldEvictAndClear() {
+
+		EntityCache cache = new EntityCache(10, Duration.ZERO, EvictionPolicy.LRU);
+
+		cache.putIfCurrent(1L, "Walter", cache.getGeneration());
+		cache.putIfCurrent(2L, "Jesse", cache.getGeneration());
+
+		cache.evict(1L);
+		assertThat(cache.get(1L)).isNull();
+		assertThat(cache.get(2L)).isEqualTo("Jesse");
+
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsed() {
+
+		EntityCache cache = new EntityCache(2, Duration.ZERO, EvictionPolicy.LRU);
+
+		cache.putIfCurrent(1L, "Walter", cache.getGeneration());
+		cache.putIfCurrent(2L, "Jesse", cache.getGeneration());
+		cache.get(1L);
+		cache.putIfCurrent(3L, "Skyler", cache.getGeneration());
+
+		assertThat(cache.get(1L)).isEqualTo("Walter");
+		assertThat(cache.get(2L)).isNull();
+		assertThat(cache.get(3L)).isEqualTo("Skyler");
+	}
+
+	@Test
+	public void shouldEvictFirstInFirstOut() {
+
+		EntityCache cache = new EntityCache(2, Duration.ZERO, EvictionPolicy.FIFO);
+
+		cache.putIfCurrent(1L, "Walter", cache.getGeneration());
+		cache.putIfCurrent(2L, "Jesse", cache.getGeneration());
+		cache.get(1L);
+		cache.putIfCurrent(3L, "Skyler", cache.getGeneration());
+
+		assertThat(cache.get(1L)).isNull();
+		assertThat(cache.get(2L)).isEqualTo("Jesse");
+		assertThat(cache.get(3L)).isEqualTo("Skyler");
+	}
+
+	@Test
+	public void shouldExpireEntries() {
+
+		MutableClock clock = new MutableClock();
+		EntityCache cache = new EntityCache(10, Duration.ofSeconds(10), EvictionPolicy.LRU, clock);
+
+		cache.putIfCurrent(1L, "Walter", cache.getGeneration());
+		clock.advance(Duration.ofSeconds(5));
+		assertThat(cache.get(1L)).isEqualTo("Walter");
+
+		clock.advance(Duration.ofSeconds(5));
+		assertThat(cache.get(1L)).isNull();
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("UTC");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+	}
+}
@@ -28,16 +28,22 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
+import org.springframework.data.r2dbc.connectionfactory.R2dbcTransactionManager;
 import org.springframework.data.r2dbc.dialect.PostgresDialect;
 import org.springframework.data.r2dbc.mapping.OutboundRow;
 import org.springframework.data.r2dbc.mapping.SettableValue;
@@ -52,6 +58,9 @@ import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -61,9 +70,12 @@ import org.springframework.util.CollectionUtils;
  */
 public class R2dbcEntityTemplateUnitTests {
 
+	static final Predicate<String> SELECT = s -> s.startsWith("SELECT");
+
 	DatabaseClient client;
 	R2dbcEntityTemplate entityTemplate;
 	StatementRecorder recorder;
+	TransactionalOperator transactionalOperator;
 
 	@Before
 	public void before() {
@@ -72,6 +84,7 @@ public class R2dbcEntityTemplateUnitTests {
 		client = DatabaseClient.builder().connectionFactory(recorder)
 				.dataAccessStrategy(new DefaultReactiveDataAccessStrategy(PostgresDialect.INSTANCE)).build();
 		entityTemplate = new R2dbcEntityTemplate(client);
+		transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(recorder));
 	}
 
 	@Test // gh-220
@@ -112,7 +125,7 @@ public class R2dbcEntityTemplateUnitTests {
 
 		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
 
-		assertThat(statement.getSql()).isEqualTo("SELECT person.id FROM person WHERE person.THE_NAME = $1 LIMIT 1");
+		assertThat(statement.getSql()).isEqualTo("SELECT 1 FROM person WHERE person.THE_NAME = $1 LIMIT 1");
 		assertThat(statement.getBindings()).hasSize(1).containsEntry(0, SettableValue.from("Walter"));
 	}
 
@@ -157,6 +170,91 @@ public class R2dbcEntityTemplateUnitTests {
 		assertThat(callback.getValues()).hasSize(1);
 	}
 
+	@Test
+	public void selectShouldInvokeCallbacksDiscoveredForEntityType() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().columnMetadata(MockColumnMetadata.builder().name("id").build())
+				.columnMetadata(MockColumnMetadata.builder().name("THE_NAME").build())
+				.columnMetadata(MockColumnMetadata.builder().name("name").build()).build();
+		MockRow row = MockRow.builder().identified("id", Object.class, "Walter")
+				.identified("THE_NAME", Object.class, "some-name").identified("name", Object.class, "some-name").build();
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), MockResult.builder().rowMetadata(metadata).row(row).build());
+
+		GenericApplicationContext applicationContext = new GenericApplicationContext();
+		applicationContext.registerBean(ValueCapturingAfterConvertCallback.class);
+		applicationContext.refresh();
+
+		entityTemplate.setApplicationContext(applicationContext);
+
+		entityTemplate.select(Query.empty(), Customer.class) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> assertThat(actual.id).isEqualTo("Walter")) //
+				.verifyComplete();
+
+		entityTemplate.select(Query.empty(), Person.class) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> assertThat(actual.id).isEqualTo("after-convert")) //
+				.verifyComplete();
+
+		assertThat(applicationContext.getBean(ValueCapturingAfterConvertCallback.class).getValues()).hasSize(1);
+	}
+
+	@Test
+	public void insertShouldInvokeCallbacksDiscoveredForEntityType() {
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"),
+				MockResult.builder().rowMetadata(MockRowMetadata.builder().build()).rowsUpdated(1).build());
+
+		GenericApplicationContext applicationContext = new GenericApplicationContext();
+		applicationContext.registerBean(ValueCapturingBeforeSaveCallback.class);
+		applicationContext.refresh();
+
+		entityTemplate.setApplicationContext(applicationContext);
+
+		Customer customer = new Customer();
+		customer.name = "Walter";
+
+		entityTemplate.insert(customer).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+		entityTemplate.insert(new Person()).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		assertThat(applicationContext.getBean(ValueCapturingBeforeSaveCallback.class).getValues()).hasSize(1);
+		assertThat(recorder.getCreatedStatement(s -> s.startsWith("INSERT INTO customer")).getBindings())
+				.doesNotContainValue(SettableValue.from("before-save"));
+		assertThat(recorder.getCreatedStatement(s -> s.startsWith("INSERT INTO person")).getBindings())
+				.containsValue(SettableValue.from("before-save"));
+	}
+
+	@Test
+	public void updateShouldInvokeCallbacksDiscoveredForEntityType() {
+
+		recorder.addStubbing(s -> s.startsWith("UPDATE"),
+				MockResult.builder().rowMetadata(MockRowMetadata.builder().build()).rowsUpdated(1).build());
+
+		GenericApplicationContext applicationContext = new GenericApplicationContext();
+		applicationContext.registerBean(ValueCapturingBeforeSaveCallback.class);
+		applicationContext.refresh();
+
+		entityTemplate.setApplicationContext(applicationContext);
+
+		Customer customer = new Customer();
+		customer.id = "1";
+		customer.name = "Walter";
+
+		Person person = new Person();
+		person.id = "2";
+		person.name = "Jesse";
+
+		entityTemplate.update(customer).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+		entityTemplate.update(person).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		assertThat(applicationContext.getBean(ValueCapturingBeforeSaveCallback.class).getValues()).containsExactly(person);
+		assertThat(recorder.getCreatedStatement(s -> s.startsWith("UPDATE customer")).getBindings())
+				.doesNotContainValue(SettableValue.from("before-save"));
+		assertThat(recorder.getCreatedStatement(s -> s.startsWith("UPDATE person")).getBindings())
+				.containsValue(SettableValue.from("before-save"));
+	}
+
 	@Test // gh-220
 	public void shouldSelectOne() {
 
@@ -232,6 +330,127 @@ public class R2dbcEntityTemplateUnitTests {
 		assertThat(statement.getBindings()).hasSize(1).containsEntry(0, SettableValue.from("Walter"));
 	}
 
+	@Test
+	public void shouldDeleteAllEntitiesById() {
+
+		Person walter = new Person();
+		walter.id = "Walter";
+		Person jesse = new Person();
+		jesse.id = "Jesse";
+		recorder.addStubbing(s -> s.startsWith("DELETE"), MockResult.builder().rowsUpdated(2).build());
+
+		entityTemplate.deleteAll(Arrays.asList(walter, jesse)) //
+				.as(StepVerifier::create) //
+				.expectNext(2).verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("DELETE"));
+
+		assertThat(statement.getSql()).isEqualTo("DELETE FROM person WHERE person.id = ANY($1)");
+		assertThat(statement.getBindings()).hasSize(1).containsEntry(0,
+				SettableValue.from(new String[] { "Walter", "Jesse" }));
+	}
+
+	@Test
+	public void shouldDeleteAllEntitiesInChunks() {
+
+		List<Person> people = new ArrayList<>();
+		for (int i = 0; i < 1001; i++) {
+
+			Person person = new Person();
+			person.id = "" + i;
+			people.add(person);
+		}
+
+		recorder.addStubbing(s -> s.startsWith("DELETE"), MockResult.builder().rowsUpdated(1).build());
+
+		entityTemplate.deleteAll(people) //
+				.as(StepVerifier::create) //
+				.expectNext(2).verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("DELETE"))
+				.extracting(StatementRecorder.RecordedStatement::getSql).containsExactly("DELETE FROM person WHERE person.id = ANY($1)",
+				"DELETE FROM person WHERE person.id = ANY($1)");
+	}
+
+	@Test
+	public void shouldUpdateAllVersionedAsBatch() {
+
+		recorder.addStubbing(s -> s.startsWith("UPDATE"),
+				Arrays.asList(MockResult.builder().rowsUpdated(1).build(), MockResult.builder().rowsUpdated(1).build()));
+
+		entityTemplate.updateAll(Arrays.asList(new VersionedPerson("1", 1, "Walter"), new VersionedPerson("2", 3, "Jesse")))
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.getVersion()).isEqualTo(2)) //
+				.assertNext(actual -> assertThat(actual.getVersion()).isEqualTo(4)) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("UPDATE")).hasSize(1);
+	}
+
+	@Test
+	public void updateAllShouldFailForVersionMismatch() {
+
+		recorder.addStubbing(s -> s.startsWith("UPDATE"),
+				Arrays.asList(MockResult.builder().rowsUpdated(1).build(), MockResult.builder().rowsUpdated(0).build()));
+
+		entityTemplate.updateAll(Arrays.asList(new VersionedPerson("1", 1, "Walter"), new VersionedPerson("2", 3, "Jesse")))
+				.as(StepVerifier::create) //
+				.verifyError(OptimisticLockingFailureException.class);
+	}
+
+	@Test
+	public void updateAllShouldFailForVersionMismatchWithCombinedResult() {
+
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), MockResult.builder().rowsUpdated(1).build());
+
+		entityTemplate.updateAll(Arrays.asList(new VersionedPerson("1", 1, "Walter"), new VersionedPerson("2", 3, "Jesse")))
+				.as(StepVerifier::create) //
+				.verifyError(OptimisticLockingFailureException.class);
+	}
+
+	@Test
+	public void updateAllShouldVerifyCombinedResultForEachBatch() {
+
+		Predicate<String> update = s -> s.startsWith("UPDATE");
+		recorder.addStubbing(update, MockResult.builder().rowsUpdated(2).build());
+
+		List<VersionedPerson> people = Arrays.asList(new VersionedPerson("1", 1, "Walter"),
+				new VersionedPerson("2", 3, "Jesse"));
+
+		entityTemplate.updateAll(people).as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		entityTemplate.updateAll(people).as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("UPDATE")).hasSize(2);
+	}
+
+	@Test
+	public void updateAllShouldEmitEntitiesInInputOrder() {
+
+		stubPersonSelect();
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), MockResult.builder().rowsUpdated(1).build());
+
+		entityTemplate.setDirtyTrackingEnabled(true);
+
+		Person changed = new Person();
+		changed.id = "2";
+		changed.name = "Jesse";
+
+		entityTemplate.selectOne(Query.query(Criteria.where("id").is("1")), Person.class) //
+				.flatMapMany(unchanged -> entityTemplate.updateAll(Arrays.asList(changed, unchanged))
+						.map(it -> it == changed ? "changed" : it == unchanged ? "unchanged" : "other")) //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNext("changed", "unchanged") //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("UPDATE")).hasSize(1);
+	}
+
 	@Test // gh-365
 	public void shouldInsertVersioned() {
 
@@ -303,6 +522,237 @@ public class R2dbcEntityTemplateUnitTests {
 				SettableValue.from(1L));
 	}
 
+	@Test
+	public void shouldUpdateChangedColumnsOnly() {
+
+		stubPersonSelect();
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), MockResult.builder().rowsUpdated(1).build());
+
+		entityTemplate.setDirtyTrackingEnabled(true);
+
+		entityTemplate.selectOne(Query.query(Criteria.where("id").is("1")), Person.class) //
+				.flatMap(it -> {
+
+					it.description = "teacher";
+					return entityTemplate.update(it);
+				}) //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.description).isEqualTo("teacher")) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("UPDATE"));
+
+		assertThat(statement.getSql()).isEqualTo("UPDATE person SET description = $1 WHERE person.id = $2");
+		assertThat(statement.getBindings()).hasSize(2).containsEntry(0, SettableValue.from("teacher"));
+	}
+
+	@Test
+	public void shouldSkipUpdateWithoutChangedColumns() {
+
+		stubPersonSelect();
+
+		entityTemplate.setDirtyTrackingEnabled(true);
+
+		entityTemplate.selectOne(Query.query(Criteria.where("id").is("1")), Person.class) //
+				.flatMap(entityTemplate::update) //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("UPDATE")).isEmpty();
+	}
+
+	@Test
+	public void shouldRetainVersionOfUnchangedMutableEntity() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().columnMetadata(MockColumnMetadata.builder().name("id").build())
+				.columnMetadata(MockColumnMetadata.builder().name("version").build())
+				.columnMetadata(MockColumnMetadata.builder().name("name").build()).build();
+
+		recorder.addStubbing(SELECT,
+				MockResult.builder().rowMetadata(metadata).row(MockRow.builder().identified("id", Object.class, "1")
+						.identified("version", Object.class, 1L).identified("name", Object.class, "Walter").build()).build());
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), MockResult.builder().rowsUpdated(1).build());
+
+		List<MutableVersionedPerson> beforeConvert = new ArrayList<>();
+		entityTemplate.setEntityCallbacks(ReactiveEntityCallbacks.create(new BeforeConvertCallback<MutableVersionedPerson>() {
+
+			@Override
+			public Mono<MutableVersionedPerson> onBeforeConvert(MutableVersionedPerson entity, SqlIdentifier table) {
+
+				beforeConvert.add(entity);
+				return Mono.just(entity);
+			}
+		}));
+		entityTemplate.setDirtyTrackingEnabled(true);
+
+		entityTemplate.selectOne(Query.query(Criteria.where("id").is("1")), MutableVersionedPerson.class) //
+				.flatMap(entityTemplate::update) //
+				.flatMap(entityTemplate::update) //
+				.doOnNext(it -> assertThat(it.version).isEqualTo(1L)) //
+				.flatMap(it -> {
+
+					it.name = "Heisenberg";
+					return entityTemplate.update(it);
+				}) //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.version).isEqualTo(2L)) //
+				.verifyComplete();
+
+		assertThat(beforeConvert).hasSize(1);
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("UPDATE")).hasSize(1);
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("UPDATE"));
+
+		assertThat(statement.getSql()).isEqualTo(
+				"UPDATE mutable_versioned_person SET version = $1, name = $2 WHERE mutable_versioned_person.id = $3 AND (mutable_versioned_person.version = $4)");
+		assertThat(statement.getBindings()).containsEntry(0, SettableValue.from(2L)).containsEntry(3,
+				SettableValue.from(1L));
+	}
+
+	@Test
+	public void shouldUpdateAllColumnsOutsideOfTransaction() {
+
+		stubPersonSelect();
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), MockResult.builder().rowsUpdated(1).build());
+
+		entityTemplate.setDirtyTrackingEnabled(true);
+
+		Person person = entityTemplate.selectOne(Query.query(Criteria.where("id").is("1")), Person.class).block();
+
+		entityTemplate.update(person) //
+				.as(StepVerifier::create) //
+				.expectNext(person) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("UPDATE"));
+
+		assertThat(statement.getSql())
+				.isEqualTo("UPDATE person SET THE_NAME = $1, description = $2 WHERE person.id = $3");
+	}
+
+	@Test
+	public void shouldDiscardSnapshotsOnRollback() {
+
+		stubPersonSelect();
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), MockResult.builder().rowsUpdated(1).build());
+
+		entityTemplate.setDirtyTrackingEnabled(true);
+
+		entityTemplate.selectOne(Query.query(Criteria.where("id").is("1")), Person.class) //
+				.then(Mono.error(new IllegalStateException("rollback"))) //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.verifyError(IllegalStateException.class);
+
+		Person person = new Person();
+		person.id = "1";
+		person.name = "Walter";
+		person.description = "chemist";
+
+		entityTemplate.update(person) //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNext(person) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+				.contains("ROLLBACK", "UPDATE person SET THE_NAME = $1, description = $2 WHERE person.id = $3");
+	}
+
+	@Test
+	public void shouldReturnIdenticalEntityWithinTransaction() {
+
+		stubPersonSelect();
+		entityTemplate.setTransactionalIdentityMapEnabled(true);
+
+		Query byId = Query.query(Criteria.where("id").is("1"));
+
+		entityTemplate.selectOne(byId, Person.class) //
+				.flatMap(first -> entityTemplate.selectOne(byId, Person.class).map(second -> first == second)) //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("SELECT")).hasSize(1);
+	}
+
+	@Test
+	public void shouldNotShareEntitiesAcrossTransactions() {
+
+		stubPersonSelect();
+		entityTemplate.setTransactionalIdentityMapEnabled(true);
+
+		Query byId = Query.query(Criteria.where("id").is("1"));
+		List<Person> people = new ArrayList<>();
+
+		entityTemplate.selectOne(byId, Person.class).doOnNext(people::add) //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		stubPersonSelect();
+
+		entityTemplate.selectOne(byId, Person.class).doOnNext(people::add) //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(people).hasSize(2);
+		assertThat(people.get(0)).isNotSameAs(people.get(1));
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("SELECT")).hasSize(2);
+	}
+
+	@Test
+	public void shouldReleaseIdentityMapOnTransactionCompletion() {
+
+		stubPersonSelect();
+		entityTemplate.setTransactionalIdentityMapEnabled(true);
+
+		AtomicBoolean boundDuringTransaction = new AtomicBoolean();
+		AtomicBoolean boundAfterCompletion = new AtomicBoolean(true);
+
+		entityTemplate.selectOne(Query.query(Criteria.where("id").is("1")), Person.class) //
+				.flatMap(it -> TransactionSynchronizationManager.forCurrentTransaction()) //
+				.doOnNext(it -> {
+
+					boundDuringTransaction.set(it.hasResource(entityTemplate));
+					it.registerSynchronization(new TransactionSynchronization() {
+
+						@Override
+						public Mono<Void> afterCompletion(int status) {
+							return TransactionSynchronizationManager.forCurrentTransaction()
+									.doOnNext(manager -> boundAfterCompletion.set(manager.hasResource(entityTemplate))).then();
+						}
+					});
+				}) //
+				.as(transactionalOperator::transactional) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(boundDuringTransaction).isTrue();
+		assertThat(boundAfterCompletion).isFalse();
+	}
+
+	private void stubPersonSelect() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().columnMetadata(MockColumnMetadata.builder().name("id").build())
+				.columnMetadata(MockColumnMetadata.builder().name("THE_NAME").build())
+				.columnMetadata(MockColumnMetadata.builder().name("description").build()).build();
+
+		recorder.addStubbing(SELECT,
+				MockResult.builder().rowMetadata(metadata).row(MockRow.builder().identified("id", Object.class, "1")
+						.identified("THE_NAME", Object.class, "Walter").identified("description", Object.class, "chemist").build())
+						.build());
+	}
+
 	@Test // gh-215
 	public void updateShouldInvokeCallback() {
 
@@ -354,6 +804,13 @@ public class R2dbcEntityTemplateUnitTests {
 		}
 	}
 
+	static class Customer {
+
+		@Id String id;
+
+		String name;
+	}
+
 	@Value
 	@With
 	static class VersionedPerson {
@@ -365,6 +822,15 @@ public class R2dbcEntityTemplateUnitTests {
 		String name;
 	}
 
+	static class MutableVersionedPerson {
+
+		@Id String id;
+
+		@Version long version;
+
+		String name;
+	}
+
 	static class ValueCapturingEntityCallback<T> {
 
 		private final List<T> values = new ArrayList<>(1);
@@ -14,7 +14,10 @@ import io.r2dbc.postgresql.PostgresqlConnectionFactory;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.ConnectionMetadata;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.util.Optional;
 
@@ -67,6 +70,54 @@ public class DialectResolverUnitTests {
 				.isEqualTo(ExternalDialect.INSTANCE);
 	}
 
+	@Test
+	public void shouldCacheResolvedDialect() {
+
+		ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+		when(connectionFactory.getMetadata()).thenReturn(() -> "external");
+
+		assertThat(DialectResolver.getDialect(connectionFactory)).isEqualTo(ExternalDialect.INSTANCE);
+
+		clearInvocations(connectionFactory);
+
+		assertThat(DialectResolver.getDialect(connectionFactory)).isEqualTo(ExternalDialect.INSTANCE);
+		verifyNoMoreInteractions(connectionFactory);
+	}
+
+	@Test
+	public void shouldProbeCapabilitiesOnce() {
+
+		ConnectionMetadata metadata = mock(ConnectionMetadata.class);
+		when(metadata.getDatabaseProductName()).thenReturn("PostgreSQL");
+		when(metadata.getDatabaseVersion()).thenReturn("12.3");
+
+		Connection connection = mock(Connection.class);
+		when(connection.getMetadata()).thenReturn(metadata);
+		doReturn(Mono.empty()).when(connection).close();
+
+		ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+		when(connectionFactory.getMetadata()).thenReturn(() -> "PostgreSQL");
+		doReturn(Mono.just(connection)).when(connectionFactory).create();
+
+		DialectResolver.getCapabilities(connectionFactory) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual.getDialect()).isEqualTo(PostgresDialect.INSTANCE);
+					assertThat(actual.getDatabaseVersion()).isEqualTo("12.3");
+					assertThat(actual.supportsReturning()).isTrue();
+					assertThat(actual.getMaxBindParameters()).isEqualTo(32767);
+				}).verifyComplete();
+
+		DialectResolver.getCapabilities(connectionFactory) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		verify(connectionFactory).create();
+		verify(connection).close();
+	}
+
 	@RequiredArgsConstructor
 	static class ExternalConnectionFactory implements ConnectionFactory {
 
@@ -3,6 +3,8 @@ package org.springframework.data.r2dbc.dialect;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.SoftAssertions.*;
 
+import io.r2dbc.spi.IsolationLevel;
+
 import java.util.List;
 
 import org.junit.Test;
@@ -75,4 +77,13 @@ public class PostgresDialectUnitTests {
 
 		assertThatThrownBy(() -> arrayColumns.getArrayType(List.class)).isInstanceOf(IllegalArgumentException.class);
 	}
+
+	@Test
+	public void shouldRenderSetTransaction() {
+
+		assertThat(PostgresDialect.INSTANCE.renderSetTransaction(null, false)).isNull();
+		assertThat(PostgresDialect.INSTANCE.renderSetTransaction(IsolationLevel.SERIALIZABLE, true))
+				.isEqualTo("SET TRANSACTION ISOLATION LEVEL SERIALIZABLE, READ ONLY");
+		assertThat(PostgresDialect.INSTANCE.renderSetTransaction(null, true)).isEqualTo("SET TRANSACTION READ ONLY");
+	}
 }
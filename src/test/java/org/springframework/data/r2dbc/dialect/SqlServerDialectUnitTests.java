@@ -7,6 +7,11 @@ import java.util.UUID;
 import org.junit.Test;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.relational.core.dialect.ArrayColumns;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
 
 /**
  * Unit tests for {@link SqlServerDialect}.
@@ -43,4 +48,19 @@ public class SqlServerDialectUnitTests {
 		assertThat(arrayColumns.isSupported()).isFalse();
 		assertThatThrownBy(() -> arrayColumns.getArrayType(String.class)).isInstanceOf(UnsupportedOperationException.class);
 	}
+
+	@Test
+	public void shouldRenderExistsUsingTop() {
+
+		Table table = Table.create("person");
+		SqlRenderer renderer = SqlRenderer
+				.create(new RenderContextFactory(SqlServerDialect.INSTANCE).createRenderContext());
+
+		Select select = SqlServerDialect.INSTANCE.getExistsQuery(table,
+				table.column("name").isEqualTo(SQL.bindMarker("@P0")));
+
+		assertThat(renderer.render(select)).isEqualTo("SELECT TOP 1 1 FROM person WHERE person.name = @P0");
+		assertThat(renderer.render(SqlServerDialect.INSTANCE.getExistsQuery(table, null)))
+				.isEqualTo("SELECT TOP 1 1 FROM person");
+	}
 }
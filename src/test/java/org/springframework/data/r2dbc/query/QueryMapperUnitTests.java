@@ -19,7 +19,11 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.domain.Sort.Order.*;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.Test;
 
@@ -28,14 +32,18 @@ import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.dialect.BindMarkersFactory;
 import org.springframework.data.r2dbc.dialect.BindTarget;
+import org.springframework.data.r2dbc.dialect.H2Dialect;
 import org.springframework.data.r2dbc.dialect.PostgresDialect;
 import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
 import org.springframework.data.r2dbc.mapping.SettableValue;
 import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.util.ClassTypeInformation;
 
 /**
  * Unit tests for {@link QueryMapper}.
@@ -311,7 +319,7 @@ public class QueryMapperUnitTests {
 
 		BoundCondition bindings = map(criteria);
 
-		assertThat(bindings.getCondition()).hasToString("person.name IN (?[$1], ?[$2], ?[$3])");
+		assertThat(bindings.getCondition()).hasToString("person.name = ANY(?[$1])");
 	}
 
 	@Test // gh-64, gh-177
@@ -321,7 +329,60 @@ public class QueryMapperUnitTests {
 
 		BoundCondition bindings = map(criteria);
 
-		assertThat(bindings.getCondition()).hasToString("person.name NOT IN (?[$1], ?[$2], ?[$3])");
+		assertThat(bindings.getCondition()).hasToString("person.name != ALL(?[$1])");
+	}
+
+	@Test
+	public void shouldExpandInForDialectsWithoutArrayComparison() {
+
+		Criteria criteria = Criteria.where("name").in("a", "b", "c");
+
+		BoundCondition bindings = new QueryMapper(H2Dialect.INSTANCE, converter).getMappedObject(
+				BindMarkersFactory.indexed("$", 1).create(), criteria, Table.create("person"),
+				context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(bindings.getCondition()).hasToString("person.name IN (?[$1], ?[$2], ?[$3])");
+	}
+
+	@Test
+	public void shouldExpandInForUntypedValues() {
+
+		Criteria criteria = Criteria.where("unknown").in("a", 1);
+
+		BoundCondition bindings = map(criteria);
+
+		assertThat(bindings.getCondition()).hasToString("person.unknown IN (?[$1], ?[$2])");
+	}
+
+	@Test
+	public void shouldBindInValuesAsArray() {
+
+		Criteria criteria = Criteria.where("name").in("a", "b");
+
+		BoundCondition bindings = map(criteria);
+		bindings.getBindings().apply(bindTarget);
+
+		verify(bindTarget).bind(0, new String[] { "a", "b" });
+	}
+
+	@Test
+	public void shouldExpandInForUuidValues() {
+
+		Criteria criteria = Criteria.where("uuid").in(UUID.randomUUID(), UUID.randomUUID());
+
+		BoundCondition bindings = map(criteria);
+
+		assertThat(bindings.getCondition()).hasToString("person.uuid IN (?[$1], ?[$2])");
+	}
+
+	@Test
+	public void shouldExpandNotInForLocalDateValues() {
+
+		Criteria criteria = Criteria.where("birthday").notIn(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 2));
+
+		BoundCondition bindings = map(criteria);
+
+		assertThat(bindings.getCondition()).hasToString("person.birthday NOT IN (?[$1], ?[$2])");
 	}
 
 	@Test // gh-64
@@ -404,6 +465,36 @@ public class QueryMapperUnitTests {
 		assertThat(bindings.getCondition()).hasToString("person.alternative_name = ?[$1]");
 	}
 
+	@Test
+	public void shouldPassThroughCollectionsOfSimpleValues() {
+
+		List<String> values = Arrays.asList("a", null, "b");
+
+		assertThat(mapper.convertValue(values, ClassTypeInformation.from(String.class))).isSameAs(values);
+		assertThat(mapper.convertValue(values, ClassTypeInformation.OBJECT)).isSameAs(values);
+	}
+
+	@Test
+	public void shouldConvertCollectionsRequiringWriteConversion() {
+
+		List<Object> values = Arrays.asList("a", State.ACTIVE);
+
+		assertThat(mapper.convertValue(values, ClassTypeInformation.OBJECT)).isNotSameAs(values)
+				.isEqualTo(Arrays.asList("a", "ACTIVE"));
+	}
+
+	@Test
+	public void shouldReuseResolvedFields() {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(Person.class);
+
+		QueryMapper.Field first = mapper.createPropertyField(entity, SqlIdentifier.unquoted("alternative"));
+		QueryMapper.Field second = mapper.createPropertyField(entity, SqlIdentifier.unquoted("alternative"));
+
+		assertThat(first).isSameAs(second);
+		assertThat(first.getMappedColumnName().getReference()).isEqualTo("another_name");
+	}
+
 	private BoundCondition map(Criteria criteria) {
 
 		BindMarkersFactory markers = BindMarkersFactory.indexed("$", 1);
@@ -416,5 +507,11 @@ public class QueryMapperUnitTests {
 
 		String name;
 		@Column("another_name") String alternative;
+		UUID uuid;
+		LocalDate birthday;
+	}
+
+	enum State {
+		ACTIVE
 	}
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.query.AbstractR2dbcQuery.ExecutionPlan;
+import org.springframework.data.r2dbc.repository.query.R2dbcQueryExecution.ResultProcessingExecution;
+import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link AbstractR2dbcQuery}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AbstractR2dbcQueryUnitTests {
+
+	@Mock private DatabaseClient databaseClient;
+
+	private MappingR2dbcConverter converter;
+	private ProjectionFactory factory;
+	private RepositoryMetadata metadata;
+
+	@Before
+	public void setUp() {
+
+		this.converter = new MappingR2dbcConverter(new R2dbcMappingContext());
+		this.metadata = AbstractRepositoryMetadata.getMetadata(SampleRepository.class);
+		this.factory = new SpelAwareProxyProjectionFactory();
+	}
+
+	@Test
+	public void shouldReuseExecutionPlan() {
+
+		SampleQuery query = getQuery("findAll");
+		R2dbcParameterAccessor accessor = new R2dbcParameterAccessor(query.getQueryMethod());
+
+		ExecutionPlan plan = query.getExecutionPlan(accessor);
+
+		assertThat(query.getExecutionPlan(accessor)).isSameAs(plan);
+		assertThat(plan.resultType).isEqualTo(Person.class);
+	}
+
+	@Test
+	public void shouldCreateExecutionPlanForEachDynamicProjection() {
+
+		SampleQuery query = getQuery("findProjectedBy", Class.class);
+
+		ExecutionPlan entityPlan = query
+				.getExecutionPlan(new R2dbcParameterAccessor(query.getQueryMethod(), Person.class));
+		ExecutionPlan dtoPlan = query.getExecutionPlan(new R2dbcParameterAccessor(query.getQueryMethod(), PersonDto.class));
+
+		assertThat(dtoPlan).isNotSameAs(entityPlan);
+		assertThat(entityPlan.execution).isNotInstanceOf(ResultProcessingExecution.class);
+		assertThat(dtoPlan.execution).isInstanceOf(ResultProcessingExecution.class);
+		assertThat(dtoPlan.resultType).isEqualTo(Person.class);
+	}
+
+	@Test
+	public void shouldConvertProjections() {
+
+		assertThat(requiresResultProcessing("findDtoBy")).isTrue();
+		assertThat(requiresResultProcessing("findProjectionBy")).isTrue();
+
+		SampleQuery query = getQuery("findDtoBy");
+
+		assertThat(query.getExecutionPlan(new R2dbcParameterAccessor(query.getQueryMethod())).execution)
+				.isInstanceOf(ResultProcessingExecution.class);
+	}
+
+	@Test
+	public void shouldEmitNonProjectingResultsUnwrapped() {
+
+		assertThat(requiresResultProcessing("findAll")).isFalse();
+		assertThat(requiresResultProcessing("countBy")).isFalse();
+		assertThat(requiresResultProcessing("deleteBy")).isFalse();
+
+		SampleQuery query = getQuery("countBy");
+
+		assertThat(query.getExecutionPlan(new R2dbcParameterAccessor(query.getQueryMethod())).execution)
+				.isNotInstanceOf(ResultProcessingExecution.class);
+	}
+
+	private boolean requiresResultProcessing(String name) {
+		return AbstractR2dbcQuery
+				.requiresResultProcessing(getQuery(name).getQueryMethod().getResultProcessor().getReturnedType());
+	}
+
+	private SampleQuery getQuery(String name, Class<?>... args) {
+
+		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
+
+		return new SampleQuery(new R2dbcQueryMethod(method, metadata, factory, converter.getMappingContext()),
+				databaseClient, converter);
+	}
+
+	static class SampleQuery extends AbstractR2dbcQuery {
+
+		SampleQuery(R2dbcQueryMethod method, DatabaseClient databaseClient, MappingR2dbcConverter converter) {
+			super(method, databaseClient, converter);
+		}
+
+		@Override
+		protected boolean isModifyingQuery() {
+			return false;
+		}
+
+		@Override
+		protected BindableQuery createQuery(RelationalParameterAccessor accessor) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private interface SampleRepository extends Repository<Person, String> {
+
+		Flux<Person> findAll();
+
+		<T> Flux<T> findProjectedBy(Class<T> type);
+
+		Flux<PersonDto> findDtoBy();
+
+		Flux<PersonProjection> findProjectionBy();
+
+		Mono<Long> countBy();
+
+		Mono<Void> deleteBy();
+	}
+
+	static class Person {
+
+		String id;
+
+		String name;
+	}
+
+	static class PersonDto {
+
+		String name;
+	}
+
+	interface PersonProjection {
+
+		String getName();
+	}
+}
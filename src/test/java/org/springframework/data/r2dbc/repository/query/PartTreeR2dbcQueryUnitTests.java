@@ -125,7 +125,7 @@ public class PartTreeR2dbcQueryUnitTests {
 		BindableQuery query = r2dbcQuery.createQuery((getAccessor(queryMethod, new Object[] { "John" })));
 
 		assertThat(query.get())
-				.isEqualTo("SELECT " + TABLE + ".id FROM " + TABLE + " WHERE " + TABLE + ".first_name = $1 LIMIT 1");
+				.isEqualTo("SELECT 1 FROM " + TABLE + " WHERE " + TABLE + ".first_name = $1 LIMIT 1");
 	}
 
 	@Test // gh-282
@@ -463,7 +463,7 @@ public class PartTreeR2dbcQueryUnitTests {
 		BindableQuery bindableQuery = r2dbcQuery.createQuery(accessor);
 
 		assertThat(bindableQuery.get())
-				.isEqualTo("SELECT " + ALL_FIELDS + " FROM " + TABLE + " WHERE " + TABLE + ".age IN ($1)");
+				.isEqualTo("SELECT " + ALL_FIELDS + " FROM " + TABLE + " WHERE " + TABLE + ".age = ANY($1)");
 	}
 
 	@Test // gh-282
@@ -476,7 +476,7 @@ public class PartTreeR2dbcQueryUnitTests {
 		BindableQuery bindableQuery = r2dbcQuery.createQuery(accessor);
 
 		assertThat(bindableQuery.get())
-				.isEqualTo("SELECT " + ALL_FIELDS + " FROM " + TABLE + " WHERE " + TABLE + ".age NOT IN ($1)");
+				.isEqualTo("SELECT " + ALL_FIELDS + " FROM " + TABLE + " WHERE " + TABLE + ".age != ALL($1)");
 	}
 
 	@Test // gh-282
@@ -22,6 +22,8 @@ import reactor.core.publisher.Mono;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.junit.Before;
@@ -35,6 +37,7 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
 import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.QueryTimeout;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
@@ -81,6 +84,13 @@ public class R2dbcQueryMethodUnitTests {
 		assertThat(queryMethod.isModifyingQuery()).isFalse();
 	}
 
+	@Test
+	public void detectsQueryTimeout() throws Exception {
+
+		assertThat(queryMethod(SampleRepository.class, "withTimeout").getTimeout()).contains(Duration.ofMillis(500));
+		assertThat(queryMethod(SampleRepository.class, "differentTable").getTimeout()).isEmpty();
+	}
+
 	@Test
 	public void detectsTableNameFromRepoTypeIfReturnTypeNotAssignable() throws Exception {
 
@@ -154,6 +164,9 @@ public class R2dbcQueryMethodUnitTests {
 		List<Address> differentTable();
 
 		Customer methodReturningAnInterface();
+
+		@QueryTimeout(value = 500, unit = ChronoUnit.MILLIS)
+		List<Contact> withTimeout();
 	}
 
 	interface Customer {}
@@ -18,6 +18,8 @@ package org.springframework.data.r2dbc.repository.support;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -28,6 +30,9 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.data.r2dbc.core.EntityCache;
+import org.springframework.data.r2dbc.core.EntityCache.EvictionPolicy;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
 import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
 import org.springframework.data.relational.repository.query.RelationalEntityInformation;
@@ -71,9 +76,43 @@ public class R2dbcRepositoryFactoryUnitTests {
 		assertThat(repository).isNotNull();
 	}
 
+	@Test
+	public void registersEntityCachePerDomainType() {
+
+		R2dbcEntityTemplate template = new R2dbcEntityTemplate(databaseClient, dataAccessStrategy);
+		R2dbcRepositoryFactory factory = new R2dbcRepositoryFactory(template);
+		factory.setEntityCacheFactory(it -> new EntityCache(10, Duration.ZERO, EvictionPolicy.LRU));
+
+		factory.getRepository(MyPersonRepository.class);
+		factory.getRepository(MyOrderRepository.class);
+
+		assertThat(template.getEntityCache(Person.class)).isNotNull();
+		assertThat(template.getEntityCache(Order.class)).isNotNull()
+				.isNotSameAs(template.getEntityCache(Person.class));
+	}
+
+	@Test
+	public void rejectsEntityCacheSharedAcrossDomainTypes() {
+
+		EntityCache entityCache = new EntityCache(10, Duration.ZERO, EvictionPolicy.LRU);
+		R2dbcEntityTemplate template = new R2dbcEntityTemplate(databaseClient, dataAccessStrategy);
+		R2dbcRepositoryFactory factory = new R2dbcRepositoryFactory(template);
+		factory.setEntityCacheFactory(it -> entityCache);
+
+		factory.getRepository(MyPersonRepository.class);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> factory.getRepository(MyOrderRepository.class));
+	}
+
 	interface MyPersonRepository extends Repository<Person, Long> {}
 
+	interface MyOrderRepository extends Repository<Order, Long> {}
+
 	static class Person {
 		@Id long id;
 	}
+
+	static class Order {
+		@Id long id;
+	}
 }
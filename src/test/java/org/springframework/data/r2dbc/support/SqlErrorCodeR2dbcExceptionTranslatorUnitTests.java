@@ -149,6 +149,46 @@ public class SqlErrorCodeR2dbcExceptionTranslatorUnitTests {
 		assertThat(diex).hasCause(intVioEx);
 	}
 
+	@Test
+	public void shouldCountTranslations() {
+
+		SqlErrorCodeR2dbcExceptionTranslator sut = new SqlErrorCodeR2dbcExceptionTranslator(ERROR_CODES);
+
+		sut.translate("task", "SQL", new MyR2dbcException("", "", 8));
+		sut.translate("task", "SQL", new MyR2dbcException("", "", 8));
+		sut.translate("task", "SQL", new MyR2dbcException("", "", 7));
+		sut.translate("task", "SQL", new MyR2dbcException("", "07xxx", 666666666));
+
+		assertThat(sut.getTranslationCounts()).hasSize(2) //
+				.containsEntry(DeadlockLoserDataAccessException.class, 2L) //
+				.containsEntry(CannotAcquireLockException.class, 1L);
+	}
+
+	@Test
+	public void shouldConsiderReplacedErrorCodes() {
+
+		SqlErrorCodeR2dbcExceptionTranslator sut = new SqlErrorCodeR2dbcExceptionTranslator(ERROR_CODES);
+
+		assertThat(sut.translate("task", "SQL", new MyR2dbcException("", "", 1)))
+				.isInstanceOf(BadSqlGrammarException.class);
+
+		SQLErrorCodes codes = new SQLErrorCodes();
+		codes.setDuplicateKeyCodes("1");
+		sut.setSqlErrorCodes(codes);
+
+		assertThat(sut.translate("task", "SQL", new MyR2dbcException("", "", 1))).isInstanceOf(DuplicateKeyException.class);
+
+		codes.setDuplicateKeyCodes();
+		codes.setDeadlockLoserCodes("1");
+
+		assertThat(sut.translate("task", "SQL", new MyR2dbcException("", "", 1))).isInstanceOf(DuplicateKeyException.class);
+
+		sut.setSqlErrorCodes(codes);
+
+		assertThat(sut.translate("task", "SQL", new MyR2dbcException("", "", 1)))
+				.isInstanceOf(DeadlockLoserDataAccessException.class);
+	}
+
 	static class MyR2dbcException extends R2dbcException {
 
 		MyR2dbcException(String reason, String sqlState, int errorCode) {
@@ -205,7 +205,7 @@ public class StatementRecorder implements ConnectionFactory {
 
 		@Override
 		public boolean isAutoCommit() {
-			throw new UnsupportedOperationException("isAutoCommit not yet supported");
+			return false;
 		}
 
 		@Override
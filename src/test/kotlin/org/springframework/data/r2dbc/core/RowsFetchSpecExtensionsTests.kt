@@ -20,6 +20,7 @@ import io.mockk.mockk
 import io.mockk.verify
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.reactor.asCoroutineContext
 import kotlinx.coroutines.runBlocking
 import org.assertj.core.api.Assertions.assertThat
 import org.assertj.core.api.Assertions.assertThatExceptionOfType
@@ -27,6 +28,7 @@ import org.junit.Test
 import org.springframework.dao.EmptyResultDataAccessException
 import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
+import reactor.util.context.Context
 
 /**
  * Unit tests for [RowsFetchSpec] extensions.
@@ -171,4 +173,27 @@ class RowsFetchSpecExtensionsTests {
 			spec.all()
 		}
 	}
+
+	@Test
+	@ExperimentalCoroutinesApi
+	fun awaitOnePropagatesReactorContext() {
+
+		val spec = mockk<RowsFetchSpec<String>>()
+		every { spec.one() } returns Mono.subscriberContext().map { it.get<String>("tenant") }
+
+		runBlocking(Context.of("tenant", "foo").asCoroutineContext()) {
+			assertThat(spec.awaitOne()).isEqualTo("foo")
+		}
+	}
+
+	@Test
+	fun awaitOneWithError() {
+
+		val spec = mockk<RowsFetchSpec<String>>()
+		every { spec.one() } returns Mono.error(IllegalStateException("boom"))
+
+		assertThatExceptionOfType(IllegalStateException::class.java).isThrownBy {
+			runBlocking { spec.awaitOne() }
+		}
+	}
 }
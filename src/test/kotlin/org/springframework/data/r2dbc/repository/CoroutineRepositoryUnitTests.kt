@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository
+
+import io.r2dbc.spi.test.MockResult
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.springframework.data.annotation.Id
+import org.springframework.data.r2dbc.core.DatabaseClient
+import org.springframework.data.r2dbc.core.DefaultReactiveDataAccessStrategy
+import org.springframework.data.r2dbc.dialect.PostgresDialect
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory
+import org.springframework.data.r2dbc.testing.StatementRecorder
+import org.springframework.data.repository.kotlin.CoroutineCrudRepository
+
+/**
+ * Unit tests for Coroutine repositories backed by [org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository].
+ */
+class CoroutineRepositoryUnitTests {
+
+	lateinit var recorder: StatementRecorder
+	lateinit var repositoryFactory: R2dbcRepositoryFactory
+
+	@Before
+	fun before() {
+
+		recorder = StatementRecorder.newInstance()
+
+		val dataAccessStrategy = DefaultReactiveDataAccessStrategy(PostgresDialect.INSTANCE)
+		val client = DatabaseClient.builder().connectionFactory(recorder).dataAccessStrategy(dataAccessStrategy).build()
+
+		repositoryFactory = R2dbcRepositoryFactory(client, dataAccessStrategy)
+	}
+
+	@Test
+	fun shouldIssueDeleteQuery() {
+
+		recorder.addStubbing({ s -> s.startsWith("DELETE") }, MockResult.builder().rowsUpdated(1).build())
+
+		val repository = repositoryFactory.getRepository(PersonRepository::class.java)
+
+		runBlocking {
+			repository.deleteById(1)
+		}
+
+		val statement = recorder.getCreatedStatement { s -> s.startsWith("DELETE") }
+
+		assertThat(statement.sql).isEqualTo("DELETE FROM person WHERE person.id = $1")
+	}
+
+	interface PersonRepository : CoroutineCrudRepository<Person, Long>
+
+	data class Person(@Id val id: Long, val name: String)
+}